@@ -0,0 +1,69 @@
+package benchmark;
+
+import org.json.JSONObject;
+
+// Timing statistics for one benchmark, in nanoseconds per operation over the measured iterations
+public class BenchmarkResult {
+    private final String name;
+    private final long operations;
+    private final double meanNanos;
+    private final double stdDevNanos;
+    private final double minNanos;
+    private final double maxNanos;
+
+    // REQUIRES: nanosPerOp is not empty
+    // EFFECTS: creates a result from the nanoseconds per operation measured in each iteration
+    public BenchmarkResult(String name, long operations, double[] nanosPerOp) {
+        this.name = name;
+        this.operations = operations;
+        double sum = 0;
+        double min = Double.MAX_VALUE;
+        double max = 0;
+        for (double value : nanosPerOp) {
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        this.meanNanos = sum / nanosPerOp.length;
+        double squares = 0;
+        for (double value : nanosPerOp) {
+            squares += (value - meanNanos) * (value - meanNanos);
+        }
+        this.stdDevNanos = Math.sqrt(squares / nanosPerOp.length);
+        this.minNanos = min;
+        this.maxNanos = max;
+    }
+
+    // EFFECTS: returns the mean number of operations per second
+    public double getOpsPerSecond() {
+        return meanNanos == 0 ? 0 : 1e9 / meanNanos;
+    }
+
+    // EFFECTS: returns a one-line human-readable summary
+    public String format() {
+        return String.format("%-32s %14.1f ns/op  +- %10.1f  %16.0f ops/s", name, meanNanos, stdDevNanos,
+                getOpsPerSecond());
+    }
+
+    // EFFECTS: returns a JSON object representation of this result
+    public JSONObject toJson() {
+        JSONObject json = new JSONObject();
+        json.put("benchmark", name);
+        json.put("operations", operations);
+        json.put("meanNanosPerOp", meanNanos);
+        json.put("stdDevNanosPerOp", stdDevNanos);
+        json.put("minNanosPerOp", minNanos);
+        json.put("maxNanosPerOp", maxNanos);
+        json.put("opsPerSecond", getOpsPerSecond());
+        return json;
+    }
+
+    // ===== getters =====
+    public String getName() {
+        return name;
+    }
+
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+}
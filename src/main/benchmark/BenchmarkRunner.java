@@ -0,0 +1,84 @@
+package benchmark;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+// Runs micro benchmarks with warmup and measurement iterations (in the style of JMH, without the dependency).
+// The batch size is calibrated during warmup so that each measured iteration lasts about the target time.
+public class BenchmarkRunner {
+    private static final int TAB = 4;
+    private static final int MAX_BATCH = 1 << 24;
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private long sink;
+
+    // EFFECTS: creates a runner doing the given number of warmup and measured iterations of about iterationMillis each
+    public BenchmarkRunner(int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+    }
+
+    // EFFECTS: runs each benchmark in turn, printing a summary line per benchmark, and returns the results
+    public List<BenchmarkResult> runAll(List<MicroBenchmark> benchmarks) throws Exception {
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (MicroBenchmark benchmark : benchmarks) {
+            BenchmarkResult result = run(benchmark);
+            System.out.println(result.format());
+            results.add(result);
+        }
+        return results;
+    }
+
+    // EFFECTS: warms up and measures one benchmark
+    public BenchmarkResult run(MicroBenchmark benchmark) throws Exception {
+        int batch = 1;
+        for (int i = 0; i < warmupIterations; i++) {
+            long nanos = timeBatch(benchmark, batch);
+            while (nanos < iterationNanos / 4 && batch < MAX_BATCH) {
+                batch *= 2;
+                nanos = timeBatch(benchmark, batch);
+            }
+        }
+        double[] nanosPerOp = new double[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            nanosPerOp[i] = (double) timeBatch(benchmark, batch) / batch;
+        }
+        return new BenchmarkResult(benchmark.getName(), (long) batch * measurementIterations, nanosPerOp);
+    }
+
+    // EFFECTS: sets up and times one batch of operations, returning the elapsed nanoseconds
+    private long timeBatch(MicroBenchmark benchmark, int operations) throws Exception {
+        benchmark.setup(operations);
+        long start = System.nanoTime();
+        sink += benchmark.run(operations);
+        return System.nanoTime() - start;
+    }
+
+    // EFFECTS: writes the results as a JSON document to the given file;
+    //          throws FileNotFoundException if the file cannot be opened for writing
+    public static void writeJson(List<BenchmarkResult> results, String destination) throws FileNotFoundException {
+        JSONArray array = new JSONArray();
+        for (BenchmarkResult result : results) {
+            array.put(result.toJson());
+        }
+        JSONObject json = new JSONObject();
+        json.put("javaVersion", System.getProperty("java.version"));
+        json.put("timestamp", System.currentTimeMillis());
+        json.put("results", array);
+        try (PrintWriter writer = new PrintWriter(destination)) {
+            writer.print(json.toString(TAB));
+        }
+    }
+
+    // EFFECTS: returns the accumulated benchmark return values, which keeps their work observable
+    public long getSink() {
+        return sink;
+    }
+}
@@ -0,0 +1,282 @@
+package benchmark;
+
+import engine.Evaluator;
+import model.Board;
+import model.EventLog;
+import model.bitboard.BatchMoveValidator;
+import model.bitboard.Fen;
+import model.bitboard.MoveGenerator;
+import model.bitboard.Moves;
+import model.bitboard.Position;
+import model.pieces.Piece;
+import persistence.JsonReader;
+import persistence.JsonWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+// Micro benchmarks of board construction, move making, check detection, per-piece move generation, batch move
+// validation, evaluation, FEN parsing and JSON persistence on fixed positions. Run with an optional output file to
+// also save the results as JSON:
+//     BoardBenchmarks [results.json]
+public class BoardBenchmarks {
+    // a quiet middlegame with every piece type (perft "Position 6")
+    private static final String MIDDLEGAME = "./data/perftPosition6.json";
+    // boards reused by the makeMove benchmark, each taken back after its move
+    private static final int BOARD_POOL = 64;
+    private static final String[] PIECE_SQUARES = {"h2", "c3", "g5", "a1", "e2", "g1"};
+
+    // EFFECTS: runs all benchmarks with default settings and optionally writes the results to args[0]
+    public static void main(String[] args) throws Exception {
+        BenchmarkRunner runner = new BenchmarkRunner(5, 5, 500);
+        List<BenchmarkResult> results = runner.runAll(all());
+        if (args.length > 0) {
+            BenchmarkRunner.writeJson(results, args[0]);
+            System.out.println("Wrote results to " + args[0]);
+        }
+    }
+
+    // EFFECTS: returns every board benchmark
+    public static List<MicroBenchmark> all() throws IOException {
+        Board middlegame = new JsonReader(MIDDLEGAME).read();
+        List<MicroBenchmark> benchmarks = new ArrayList<>();
+        benchmarks.add(newBoard());
+        benchmarks.add(makeMove());
+        benchmarks.add(isCheck(middlegame));
+        benchmarks.add(isCheckmate(middlegame));
+        for (String square : PIECE_SQUARES) {
+            benchmarks.add(getLegalMoves(middlegame, square));
+        }
+        benchmarks.add(evaluate(middlegame));
+        benchmarks.add(makeUnmake(middlegame));
+        benchmarks.add(validateBatch(middlegame));
+        benchmarks.add(fenParse(middlegame));
+        benchmarks.add(jsonWrite(middlegame));
+        benchmarks.add(jsonRead(middlegame));
+        return benchmarks;
+    }
+
+    // EFFECTS: returns a benchmark of constructing a board in the starting position
+    private static MicroBenchmark newBoard() {
+        return new MicroBenchmark("board.new") {
+            @Override
+            protected long run(int operations) {
+                long result = 0;
+                for (int i = 0; i < operations; i++) {
+                    result += new Board().getNumAvailablePieces();
+                }
+                return result;
+            }
+        };
+    }
+
+    // EFFECTS: returns a benchmark of Board.makeMove (Ng1-f3 from the starting position), including the move record
+    //          and the checkmate test it performs, each followed by the unmakeMove that resets one of a small pool of
+    //          boards, so that a batch of any size allocates no boards
+    private static MicroBenchmark makeMove() {
+        return new MicroBenchmark("board.makeUnmakeMove") {
+            private final Board[] boards = new Board[BOARD_POOL];
+
+            @Override
+            protected void setup(int operations) {
+                EventLog.getInstance().clear();
+                for (int i = 0; i < BOARD_POOL; i++) {
+                    if (boards[i] == null) {
+                        boards[i] = new Board();
+                    }
+                }
+            }
+
+            @Override
+            protected long run(int operations) {
+                long result = 0;
+                for (int i = 0; i < operations; i++) {
+                    Board board = boards[i % BOARD_POOL];
+                    board.makeMove("g1", "f3");
+                    result += board.positionKey();
+                    board.unmakeMove();
+                }
+                return result;
+            }
+        };
+    }
+
+    // EFFECTS: returns a benchmark of Board.isCheck on a fresh copy of the given position, so that no result
+    //          cached by an earlier call is reused
+    private static MicroBenchmark isCheck(Board fixed) {
+        Position reference = new Position(fixed.getPosition());
+        return new MicroBenchmark("board.isCheck") {
+            @Override
+            protected long run(int operations) {
+                long result = 0;
+                for (int i = 0; i < operations; i++) {
+                    fixed.getPosition().copyFrom(reference);
+                    result += fixed.isCheck() ? 1 : 0;
+                }
+                return result;
+            }
+        };
+    }
+
+    // EFFECTS: returns a benchmark of Board.isCheckmate on a fresh copy of the given position
+    private static MicroBenchmark isCheckmate(Board fixed) {
+        Position reference = new Position(fixed.getPosition());
+        return new MicroBenchmark("board.isCheckmate") {
+            @Override
+            protected long run(int operations) {
+                long result = 0;
+                for (int i = 0; i < operations; i++) {
+                    fixed.getPosition().copyFrom(reference);
+                    result += fixed.isCheckmate() ? 1 : 0;
+                }
+                return result;
+            }
+        };
+    }
+
+    // EFFECTS: returns a benchmark of Piece.getLegalMoves for the piece on the given square of the given position
+    private static MicroBenchmark getLegalMoves(Board fixed, String square) {
+        Position reference = new Position(fixed.getPosition());
+        Piece piece = fixed.getPiece(square);
+        String name = piece.getClass().getSimpleName().toLowerCase();
+        return new MicroBenchmark("piece.getLegalMoves." + name) {
+            @Override
+            protected long run(int operations) {
+                long result = 0;
+                for (int i = 0; i < operations; i++) {
+                    fixed.getPosition().copyFrom(reference);
+                    result += piece.getLegalMoves().size();
+                }
+                return result;
+            }
+        };
+    }
+
+    // EFFECTS: returns a benchmark of Evaluator.evaluate on the positions one legal move away from the given board,
+    //          taken in turn so that no result can be hoisted out of the loop; the operations per second are
+    //          evaluations per second
+    private static MicroBenchmark evaluate(Board fixed) {
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegalMoves(fixed.getPosition(), moves);
+        Position[] children = new Position[count];
+        for (int i = 0; i < count; i++) {
+            children[i] = new Position(fixed.getPosition());
+            children[i].makeMove(moves[i]);
+        }
+        return new MicroBenchmark("eval.evaluate") {
+            @Override
+            protected long run(int operations) {
+                long result = 0;
+                for (int i = 0; i < operations; i++) {
+                    result += Evaluator.evaluate(children[i % children.length]);
+                }
+                return result;
+            }
+        };
+    }
+
+    // EFFECTS: returns a benchmark of Position.makeMove and unmakeMove over every legal move of the given position,
+    //          which includes the incremental update of the evaluation terms; one operation is one make/unmake pair
+    private static MicroBenchmark makeUnmake(Board fixed) {
+        Position position = new Position(fixed.getPosition());
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegalMoves(position, moves);
+        return new MicroBenchmark("position.makeUnmake") {
+            @Override
+            protected long run(int operations) {
+                long result = 0;
+                for (int i = 0; i < operations; i++) {
+                    position.makeMove(moves[i % count]);
+                    result += position.getMidgame();
+                    position.unmakeMove();
+                }
+                return result;
+            }
+        };
+    }
+
+    // EFFECTS: returns a benchmark of BatchMoveValidator.validate over every pair of origin and destination squares
+    //          of the given position; one operation is one batch of 4096 moves
+    private static MicroBenchmark validateBatch(Board fixed) {
+        Position[] positions = {new Position(fixed.getPosition())};
+        int[] positionIndices = new int[64 * 64];
+        int[] moves = new int[64 * 64];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = Moves.encode(i / 64, i % 64, Moves.QUIET);
+        }
+        BatchMoveValidator validator = new BatchMoveValidator(ForkJoinPool.commonPool(), 1024);
+        return new MicroBenchmark("validator.batch4096") {
+            @Override
+            protected long run(int operations) {
+                long result = 0;
+                for (int i = 0; i < operations; i++) {
+                    result += validator.validate(positions, positionIndices, moves).cardinality();
+                }
+                return result;
+            }
+        };
+    }
+
+    // EFFECTS: returns a benchmark of Fen.parse of the given board's FEN record into a reused Position
+    private static MicroBenchmark fenParse(Board board) {
+        String fen = board.toFen();
+        Position position = new Position();
+        return new MicroBenchmark("fen.parse") {
+            @Override
+            protected long run(int operations) {
+                long result = 0;
+                for (int i = 0; i < operations; i++) {
+                    Fen.parse(fen, position);
+                    result += position.getHash();
+                }
+                return result;
+            }
+        };
+    }
+
+    // EFFECTS: returns a benchmark of opening, writing and closing a JsonWriter for the given board
+    private static MicroBenchmark jsonWrite(Board board) throws IOException {
+        String destination = tempFile();
+        return new MicroBenchmark("json.write") {
+            @Override
+            protected long run(int operations) throws IOException {
+                for (int i = 0; i < operations; i++) {
+                    JsonWriter writer = new JsonWriter(destination);
+                    writer.open();
+                    writer.write(board);
+                    writer.close();
+                }
+                return new File(destination).length();
+            }
+        };
+    }
+
+    // EFFECTS: returns a benchmark of JsonReader.read for a file holding the given board
+    private static MicroBenchmark jsonRead(Board board) throws IOException {
+        String source = tempFile();
+        JsonWriter writer = new JsonWriter(source);
+        writer.open();
+        writer.write(board);
+        writer.close();
+        return new MicroBenchmark("json.read") {
+            @Override
+            protected long run(int operations) throws IOException {
+                long result = 0;
+                for (int i = 0; i < operations; i++) {
+                    result += new JsonReader(source).read().positionKey();
+                }
+                return result;
+            }
+        };
+    }
+
+    // EFFECTS: returns the path of a new temporary file that is deleted when the JVM exits
+    private static String tempFile() throws IOException {
+        File file = File.createTempFile("twochess-bench", ".json");
+        file.deleteOnExit();
+        return file.getPath();
+    }
+}
@@ -0,0 +1,72 @@
+package benchmark;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Counts latencies in nanoseconds in buckets of logarithmic width, so percentiles can be read off millions of
+// samples recorded from many threads at once without storing them. Each power of two is split into 32 buckets, so a
+// percentile is reported within about 3% of the true value.
+public class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    // MODIFIES: this
+    // EFFECTS: records one latency of the given number of nanoseconds; negative latencies count as zero
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        total.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    // EFFECTS: returns the bucket holding value
+    private static int bucketOf(long value) {
+        int shift = Math.max(0, Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BITS);
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    // EFFECTS: returns the largest value held by the given bucket
+    private static long highestValueOf(int bucket) {
+        int shift = Math.max(0, bucket / SUB_BUCKETS - 1);
+        long mantissa = bucket - (long) shift * SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    // REQUIRES: 0 < percentile <= 100
+    // EFFECTS: returns the latency below or at which the given percentage of the recorded latencies lie, or 0 if
+    //          none were recorded
+    public long getPercentile(double percentile) {
+        long rank = (long) Math.ceil(getCount() * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS && rank > 0; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), getMax());
+            }
+        }
+        return 0;
+    }
+
+    // EFFECTS: returns the number of recorded latencies
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    // EFFECTS: returns the mean recorded latency, or 0 if none were recorded
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) total.get() / count;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+}
@@ -0,0 +1,120 @@
+package benchmark;
+
+import server.GameServer;
+import server.GameSession;
+import server.MoveResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Plays random games on a GameServer from many simulated clients at once and reports the moves played per second and
+// the latency of move requests, from submitting a move to receiving its result. Each client keeps one session with
+// one request in flight at a time, like a player waiting for the server's answer, and starts a new game when its game
+// ends or reaches MAX_PLIES moves. A client asks its session for a random legal move through the server, then sends
+// it; only the move request is timed. Clients handle the answers on a pool of threads apart from the server's workers.
+public class LoadGenerator {
+    public static final int DEFAULT_SESSIONS = 10_000;
+    public static final int MAX_PLIES = 200;
+    private final GameServer server;
+    private final int sessions;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder movesPlayed = new LongAdder();
+    private ExecutorService clients;
+    private CountDownLatch finished;
+    private volatile long deadline;
+
+    // REQUIRES: sessions >= 1
+    // EFFECTS: creates a generator playing the given number of concurrent sessions on server
+    public LoadGenerator(GameServer server, int sessions) {
+        this.server = server;
+        this.sessions = sessions;
+    }
+
+    // EFFECTS: prints the throughput and latency of a run
+    //          usage: LoadGenerator [sessions] [seconds] [worker threads]
+    public static void main(String[] args) throws InterruptedException {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SESSIONS;
+        long seconds = args.length > 1 ? Long.parseLong(args[1]) : 10;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        GameServer server = new GameServer(threads);
+        LoadReport report = new LoadGenerator(server, sessions).run(seconds * 1000);
+        server.shutdown();
+        System.out.println(report.format());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: plays the sessions for about millis milliseconds, waits for the requests in flight and returns the
+    //          report of the run
+    public LoadReport run(long millis) throws InterruptedException {
+        clients = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        finished = new CountDownLatch(sessions);
+        long start = System.nanoTime();
+        deadline = start + millis * 1_000_000L;
+        List<Long> ids = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            ids.add(server.createSession());
+        }
+        for (long id : ids) {
+            clients.execute(() -> playNext(id));
+        }
+        finished.await();
+        long elapsed = System.nanoTime() - start;
+        clients.shutdown();
+        return new LoadReport(sessions, movesPlayed.sum(), elapsed, latencies);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: asks the session with the given id for a random legal move and plays it, carrying on with the next move
+    //          once the result is in; stops once the run is over
+    private void playNext(long id) {
+        if (System.nanoTime() - deadline >= 0) {
+            server.closeSession(id);
+            finished.countDown();
+            return;
+        }
+        server.submit(id, LoadGenerator::chooseMove).whenCompleteAsync((move, e) -> send(id, move), clients);
+    }
+
+    // EFFECTS: returns a random legal move of the game, as its origin and destination squares, or null if the game is
+    //          over or has reached MAX_PLIES moves
+    private static String[] chooseMove(GameSession session) {
+        Map<String, List<String>> legalMoves = session.getLegalMoves();
+        if (legalMoves.isEmpty() || session.getMoveCount() >= MAX_PLIES) {
+            return null;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<String> from = new ArrayList<>(legalMoves.keySet());
+        String fromPos = from.get(random.nextInt(from.size()));
+        List<String> to = legalMoves.get(fromPos);
+        return new String[] {fromPos, to.get(random.nextInt(to.size()))};
+    }
+
+    // MODIFIES: this
+    // EFFECTS: submits move in the session with the given id, or starts a new game in place of that one if move is
+    //          null
+    private void send(long id, String[] move) {
+        if (move == null) {
+            server.closeSession(id);
+            playNext(server.createSession());
+            return;
+        }
+        long sent = System.nanoTime();
+        server.submitMove(id, move[0], move[1]).whenCompleteAsync((result, e) -> received(id, sent, result), clients);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the result of the request sent at the given time and plays on
+    private void received(long id, long sent, MoveResult result) {
+        latencies.record(System.nanoTime() - sent);
+        if (result != null && result.isPlayed()) {
+            movesPlayed.increment();
+        }
+        playNext(id);
+    }
+}
@@ -0,0 +1,60 @@
+package benchmark;
+
+// Results of a LoadGenerator run: the throughput of moves played and the latency of move requests
+public class LoadReport {
+    private static final double NANOS_PER_MILLI = 1e6;
+    private final int sessions;
+    private final long movesPlayed;
+    private final long elapsedNanos;
+    private final long requests;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    // EFFECTS: creates a report of a run with the given number of concurrent sessions that played movesPlayed moves
+    //          in elapsedNanos, with the request latencies recorded in latencies
+    public LoadReport(int sessions, long movesPlayed, long elapsedNanos, LatencyHistogram latencies) {
+        this.sessions = sessions;
+        this.movesPlayed = movesPlayed;
+        this.elapsedNanos = elapsedNanos;
+        this.requests = latencies.getCount();
+        this.meanNanos = latencies.getMean();
+        this.p50Nanos = latencies.getPercentile(50);
+        this.p99Nanos = latencies.getPercentile(99);
+        this.maxNanos = latencies.getMax();
+    }
+
+    // EFFECTS: returns the number of moves played per second
+    public double getMovesPerSecond() {
+        return elapsedNanos == 0 ? 0 : movesPlayed * 1e9 / elapsedNanos;
+    }
+
+    // EFFECTS: returns a one-line human-readable summary, with latencies in milliseconds
+    public String format() {
+        return String.format("%d sessions: %.0f moves/s  latency mean %.3f ms  p50 %.3f ms  p99 %.3f ms  max %.3f ms",
+                sessions, getMovesPerSecond(), meanNanos / NANOS_PER_MILLI, p50Nanos / NANOS_PER_MILLI,
+                p99Nanos / NANOS_PER_MILLI, maxNanos / NANOS_PER_MILLI);
+    }
+
+    // ===== getters =====
+    public int getSessions() {
+        return sessions;
+    }
+
+    public long getMovesPlayed() {
+        return movesPlayed;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+}
@@ -0,0 +1,25 @@
+package benchmark;
+
+// A named operation to be timed by BenchmarkRunner. The runner calls setup before each measured batch (untimed) and
+// then times a single call to run that performs the operation a given number of times.
+public abstract class MicroBenchmark {
+    private final String name;
+
+    // EFFECTS: creates a benchmark with the given name, e.g. "board.makeMove"
+    public MicroBenchmark(String name) {
+        this.name = name;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: prepares whatever state the next batch of operations needs; this time is not measured
+    protected void setup(int operations) throws Exception {
+    }
+
+    // EFFECTS: performs the operation the given number of times and returns a value computed from the results, so
+    //          that the JIT compiler cannot discard the work
+    protected abstract long run(int operations) throws Exception;
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,119 @@
+package benchmark;
+
+import model.Board;
+import model.bitboard.MoveGenerator;
+import model.bitboard.Moves;
+import model.bitboard.Position;
+import persistence.JsonReader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Perft ("performance test") driver: counts the leaf nodes of the legal move tree below a Board to a fixed depth.
+// The counts are compared against published values to check the move generator, and the time taken measures its
+// speed. The tree is walked with make/unmake on a single Position with one preallocated move buffer per ply, so the
+// search itself does not allocate.
+public class Perft {
+    private final Position position = new Position();
+    private final int[][] moveBuffers;
+
+    // EFFECTS: creates a perft driver able to search up to maxDepth plies
+    public Perft(int maxDepth) {
+        moveBuffers = new int[maxDepth + 1][MoveGenerator.MAX_MOVES];
+    }
+
+    // REQUIRES: 0 <= depth <= the maximum depth of this driver
+    // EFFECTS: returns the number of leaf nodes depth plies below the given position
+    public long perft(Position root, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        position.copyFrom(root);
+        return search(0, depth);
+    }
+
+    // REQUIRES: depth >= 1
+    // EFFECTS: returns the number of leaf nodes depth plies below the current position, ply plies from the root
+    private long search(int ply, int depth) {
+        int[] moves = moveBuffers[ply];
+        int count = MoveGenerator.generateLegalMoves(position, moves);
+        if (depth == 1) {
+            return count;
+        }
+        long nodes = 0;
+        for (int i = 0; i < count; i++) {
+            position.makeMove(moves[i]);
+            nodes += search(ply + 1, depth - 1);
+            position.unmakeMove();
+        }
+        return nodes;
+    }
+
+    // REQUIRES: depth >= 1, threads >= 1
+    // EFFECTS: runs perft on the board to the given depth, splitting the root moves across the given number of
+    //          threads, and returns the total, the time taken and the count below each root move
+    public static PerftResult run(Board board, int depth, int threads) {
+        Position root = new Position(board.getPosition());
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = MoveGenerator.generateLegalMoves(root, moves);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<Future<Long>> counts = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Position child = new Position(root);
+                child.makeMove(moves[i]);
+                counts.add(executor.submit(() -> new Perft(depth).perft(child, depth - 1)));
+            }
+            return collect(moves, counts, start);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // EFFECTS: waits for the per-root-move counts and combines them into a result
+    private static PerftResult collect(int[] moves, List<Future<Long>> counts, long start) {
+        Map<String, Long> divide = new LinkedHashMap<>();
+        long nodes = 0;
+        try {
+            for (int i = 0; i < counts.size(); i++) {
+                long moveNodes = counts.get(i).get();
+                divide.put(Moves.format(moves[i]), moveNodes);
+                nodes += moveNodes;
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("Perft worker failed", e);
+        }
+        return new PerftResult(nodes, System.nanoTime() - start, divide);
+    }
+
+    // EFFECTS: runs perft from the command line:
+    //          Perft <depth> [board.json] [--threads N] [--divide]
+    //          Perft --reference [--threads N]
+    //          prints the node count, time and nodes per second, and the count per root move with --divide
+    public static void main(String[] args) throws IOException {
+        PerftOptions options = PerftOptions.parse(args);
+        if (options.isReference()) {
+            boolean passed = PerftReference.runAll(options.getThreads(), System.out);
+            System.exit(passed ? 0 : 1);
+        }
+        Board board = options.getBoardFile() == null ? new Board() : new JsonReader(options.getBoardFile()).read();
+        PerftResult result = run(board, options.getDepth(), options.getThreads());
+        if (options.isDivide()) {
+            for (Map.Entry<String, Long> entry : result.getDivide().entrySet()) {
+                System.out.println(entry.getKey() + ": " + entry.getValue());
+            }
+            System.out.println();
+        }
+        System.out.println("Nodes searched: " + result.getNodes());
+        System.out.println("Time: " + result.getNanos() / 1_000_000 + " ms (" + result.getNodesPerSecond()
+                + " nodes/s)");
+    }
+}
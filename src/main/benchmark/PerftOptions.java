@@ -0,0 +1,53 @@
+package benchmark;
+
+// Command line options of the Perft tool
+public class PerftOptions {
+    private int depth = 1;
+    private String boardFile;
+    private int threads = 1;
+    private boolean divide;
+    private boolean reference;
+
+    // EFFECTS: parses perft arguments: a depth, an optional board JSON file, and the --threads N, --divide and
+    //          --reference flags; throws IllegalArgumentException if an argument is not understood
+    public static PerftOptions parse(String[] args) {
+        PerftOptions options = new PerftOptions();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--threads") && i + 1 < args.length) {
+                options.threads = Math.max(1, Integer.parseInt(args[++i]));
+            } else if (args[i].equals("--divide")) {
+                options.divide = true;
+            } else if (args[i].equals("--reference")) {
+                options.reference = true;
+            } else if (args[i].matches("\\d+")) {
+                options.depth = Math.max(1, Integer.parseInt(args[i]));
+            } else if (!args[i].startsWith("--")) {
+                options.boardFile = args[i];
+            } else {
+                throw new IllegalArgumentException("Unknown perft option: " + args[i]);
+            }
+        }
+        return options;
+    }
+
+    // ===== getters =====
+    public int getDepth() {
+        return depth;
+    }
+
+    public String getBoardFile() {
+        return boardFile;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public boolean isDivide() {
+        return divide;
+    }
+
+    public boolean isReference() {
+        return reference;
+    }
+}
@@ -0,0 +1,72 @@
+package benchmark;
+
+import model.Board;
+import persistence.JsonReader;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// A standard perft test position with its published leaf counts. This game has no castling, en passant or pawn
+// promotion, so each position only lists the depths at which none of those moves can occur yet.
+public class PerftReference {
+    private final String name;
+    private final String boardFile;
+    private final long[] expected;
+
+    // EFFECTS: creates a reference position loaded from boardFile (or the starting position if null) whose leaf count
+    //          at depth d is expected[d - 1]
+    public PerftReference(String name, String boardFile, long... expected) {
+        this.name = name;
+        this.boardFile = boardFile;
+        this.expected = expected;
+    }
+
+    // EFFECTS: returns the standard reference positions shipped with the game
+    public static List<PerftReference> standardPositions() {
+        List<PerftReference> positions = new ArrayList<>();
+        positions.add(new PerftReference("Starting position", null, 20, 400, 8902, 197281));
+        positions.add(new PerftReference("Position 3", "./data/perftPosition3.json", 14, 191));
+        positions.add(new PerftReference("Position 6", "./data/perftPosition6.json", 46, 2079, 89890));
+        return positions;
+    }
+
+    // EFFECTS: runs every standard position to every listed depth, printing one line per run; returns true if all
+    //          counts match
+    public static boolean runAll(int threads, PrintStream out) throws IOException {
+        boolean passed = true;
+        for (PerftReference reference : standardPositions()) {
+            Board board = reference.loadBoard();
+            for (int depth = 1; depth <= reference.getMaxDepth(); depth++) {
+                PerftResult result = Perft.run(board, depth, threads);
+                boolean match = result.getNodes() == reference.getExpected(depth);
+                passed &= match;
+                out.println((match ? "ok   " : "FAIL ") + reference.name + " depth " + depth + ": "
+                        + result.getNodes() + " (expected " + reference.getExpected(depth) + ", "
+                        + result.getNodesPerSecond() + " nodes/s)");
+            }
+        }
+        return passed;
+    }
+
+    // EFFECTS: returns a fresh board set up at this reference position
+    public Board loadBoard() throws IOException {
+        return boardFile == null ? new Board() : new JsonReader(boardFile).read();
+    }
+
+    // ===== getters =====
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxDepth() {
+        return expected.length;
+    }
+
+    // REQUIRES: 1 <= depth <= getMaxDepth()
+    // EFFECTS: returns the published leaf count at the given depth
+    public long getExpected(int depth) {
+        return expected[depth - 1];
+    }
+}
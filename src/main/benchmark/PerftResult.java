@@ -0,0 +1,37 @@
+package benchmark;
+
+import java.util.Collections;
+import java.util.Map;
+
+// Outcome of a perft run: the number of leaf nodes, the time it took, and the node count below each root move
+public class PerftResult {
+    private final long nodes;
+    private final long nanos;
+    private final Map<String, Long> divide;
+
+    // EFFECTS: creates a result with the given leaf count, elapsed nanoseconds and per-root-move counts
+    public PerftResult(long nodes, long nanos, Map<String, Long> divide) {
+        this.nodes = nodes;
+        this.nanos = nanos;
+        this.divide = Collections.unmodifiableMap(divide);
+    }
+
+    // EFFECTS: returns the number of leaf nodes visited per second
+    public long getNodesPerSecond() {
+        return nanos == 0 ? 0 : nodes * 1_000_000_000L / nanos;
+    }
+
+    // ===== getters =====
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    // EFFECTS: returns leaf counts keyed by root move in coordinate notation (e.g. "e2e4"), in generation order
+    public Map<String, Long> getDivide() {
+        return divide;
+    }
+}
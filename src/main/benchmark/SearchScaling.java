@@ -0,0 +1,32 @@
+package benchmark;
+
+import engine.ComputerPlayer;
+import engine.ParallelSearch;
+import engine.SearchResult;
+import model.Board;
+import persistence.JsonReader;
+
+import java.io.IOException;
+
+// Measures how the node throughput of the parallel search scales with the thread count, doubling the threads from one
+// up to the number of available processors
+public class SearchScaling {
+    private static final int TABLE_MEGABYTES = 64;
+
+    // EFFECTS: prints nodes per second and the speed-up over one thread for each thread count
+    //          usage: SearchScaling [millis] [board.json]
+    public static void main(String[] args) throws IOException {
+        long millis = args.length > 0 ? Long.parseLong(args[0]) : 2000;
+        Board board = args.length > 1 ? new JsonReader(args[1]).read() : new Board();
+        long baseline = 0;
+        for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+            ParallelSearch search = new ParallelSearch(threads, TABLE_MEGABYTES);
+            SearchResult result = search.search(board, ComputerPlayer.MAX_DEPTH, millis);
+            search.shutdown();
+            long nps = result.getNodesPerSecond();
+            baseline = threads == 1 ? nps : baseline;
+            System.out.printf("%3d threads: %12d nodes/s  x%.2f  depth %d%n",
+                    threads, nps, (double) nps / baseline, result.getDepth());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package engine;
+
+import model.Board;
+import model.bitboard.Position;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+// Computer opponent that searches on a background thread, so asking it for a move never blocks the caller. Results
+// are handed to a callback on the given executor, e.g. SwingUtilities::invokeLater to get them on the event dispatch
+// thread.
+public class ComputerPlayer {
+    public static final int MAX_DEPTH = Search.MAX_PLY - 1;
+
+    private final ParallelSearch search;
+    private final long budgetMillis;
+    private final Executor callbackExecutor;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "computer-player");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // REQUIRES: budgetMillis >= 0
+    // EFFECTS: creates a single-threaded computer player that spends about budgetMillis milliseconds per move and
+    //          delivers results through callbackExecutor
+    public ComputerPlayer(long budgetMillis, Executor callbackExecutor) {
+        this(budgetMillis, callbackExecutor, 1);
+    }
+
+    // REQUIRES: budgetMillis >= 0 and threads >= 1
+    // EFFECTS: creates a computer player that searches on the given number of threads for about budgetMillis
+    //          milliseconds per move and delivers results through callbackExecutor
+    public ComputerPlayer(long budgetMillis, Executor callbackExecutor, int threads) {
+        this.budgetMillis = budgetMillis;
+        this.callbackExecutor = callbackExecutor;
+        this.search = new ParallelSearch(threads, Search.DEFAULT_TABLE_MEGABYTES);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: snapshots the board's position and starts searching it for the side to move in the background; when
+    //          the search finishes, onResult is run with its result on the callback executor. A search already in
+    //          progress is stopped first, and its result is still delivered.
+    public Future<?> think(Board board, Consumer<SearchResult> onResult) {
+        Position root = new Position(board.getPosition());
+        search.stop();
+        return worker.submit(() -> {
+            SearchResult result = search.search(root, MAX_DEPTH, budgetMillis);
+            callbackExecutor.execute(() -> onResult.accept(result));
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: asks the current search, if any, to finish as soon as possible
+    public void stop() {
+        search.stop();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops the current search and releases the background thread; no further moves can be requested
+    public void shutdown() {
+        search.shutdown();
+        worker.shutdown();
+    }
+
+    // ===== getters =====
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+}
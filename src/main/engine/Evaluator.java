@@ -0,0 +1,34 @@
+package engine;
+
+import model.Board;
+import model.bitboard.PieceSquareTables;
+import model.bitboard.Position;
+
+// Static evaluation in centipawns from the point of view of the side to move, used at the leaves of the search. It is
+// a tapered material plus piece-square evaluation: the middlegame and endgame sums that Position keeps up to date on
+// every move are blended by the game phase, so an evaluation costs a few arithmetic operations.
+public final class Evaluator {
+    // indexed by piece type: king, queen, pawn, rook, bishop, knight; used to order captures
+    private static final int[] PIECE_VALUES = {0, 900, 100, 500, 330, 320};
+
+    private Evaluator() {
+    }
+
+    // EFFECTS: returns the value in centipawns of a piece of the given type
+    public static int pieceValue(int type) {
+        return PIECE_VALUES[type];
+    }
+
+    // EFFECTS: returns the evaluation of the board's position, positive when the side to move is better
+    public static int evaluate(Board board) {
+        return evaluate(board.getPosition());
+    }
+
+    // EFFECTS: returns the evaluation of the position, positive when the side to move is better
+    public static int evaluate(Position position) {
+        int phase = Math.min(position.getPhase(), PieceSquareTables.MAX_PHASE);
+        int score = (position.getMidgame() * phase + position.getEndgame() * (PieceSquareTables.MAX_PHASE - phase))
+                / PieceSquareTables.MAX_PHASE;
+        return position.getSideToMove() == Position.WHITE ? score : -score;
+    }
+}
@@ -0,0 +1,124 @@
+package engine;
+
+import model.Board;
+import model.bitboard.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Lazy SMP parallel search: the calling thread and threads - 1 helper threads all search the same root, each on its
+// own Position copy, and share only a lock-free TranspositionTable. Helpers speed the main search up by filling the
+// table; odd-numbered helpers start one ply deeper so the threads do not all walk the same tree in step. The answer is
+// the main search's; node counts cover every thread. With one thread no helpers are started and the search is as
+// deterministic as a plain Search.
+public class ParallelSearch {
+    private final TranspositionTable table;
+    private final Search[] searches;
+    private final ExecutorService helpers;
+
+    // REQUIRES: threads >= 1 and tableMegabytes >= 1
+    // EFFECTS: creates a parallel search using the given number of threads and a shared table of the given size
+    public ParallelSearch(int threads, int tableMegabytes) {
+        this.table = new TranspositionTable(tableMegabytes);
+        this.searches = new Search[threads];
+        for (int i = 0; i < threads; i++) {
+            searches[i] = new Search(table, 1 + i % 2);
+        }
+        this.helpers = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, runnable -> {
+            Thread thread = new Thread(runnable, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // REQUIRES: maxDepth >= 1 and budgetMillis >= 0
+    // EFFECTS: searches the board's position for the side to move on all threads; see search(Position, int, long)
+    public SearchResult search(Board board, int maxDepth, long budgetMillis) {
+        return search(board.getPosition(), maxDepth, budgetMillis);
+    }
+
+    // REQUIRES: maxDepth >= 1 and budgetMillis >= 0
+    // MODIFIES: this
+    // EFFECTS: starts a new table generation, searches the root on the calling thread while the helpers search it
+    //          too in the same generation, stops the helpers once the main search is done, and returns the main
+    //          search's result with the nodes of all threads
+    public SearchResult search(Position root, int maxDepth, long budgetMillis) {
+        long start = System.nanoTime();
+        table.newSearch();
+        List<Future<SearchResult>> running = new ArrayList<>();
+        for (int i = 1; i < searches.length; i++) {
+            Search helper = searches[i];
+            running.add(helpers.submit(() -> helper.searchInGeneration(root, maxDepth, budgetMillis)));
+        }
+        SearchResult main = searches[0].searchInGeneration(root, maxDepth, budgetMillis);
+        for (int i = 1; i < searches.length; i++) {
+            stopHelper(searches[i], running.get(i - 1));
+        }
+        long nodes = 0;
+        for (long threadNodes : getThreadNodes()) {
+            nodes += threadNodes;
+        }
+        return main.withWork(nodes, System.nanoTime() - start);
+    }
+
+    // EFFECTS: stops a helper search and waits for it to return; the stop is repeated until it does, since a helper
+    //          that had not started yet would otherwise miss it
+    private static void stopHelper(Search helper, Future<SearchResult> running) {
+        try {
+            while (true) {
+                helper.stop();
+                try {
+                    running.get(1, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    // still searching; stop it again
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search helper failed", e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: asks the main search and all helpers to return as soon as possible
+    public void stop() {
+        for (Search search : searches) {
+            search.stop();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops any search and releases the helper threads
+    public void shutdown() {
+        stop();
+        if (helpers != null) {
+            helpers.shutdown();
+        }
+    }
+
+    // EFFECTS: returns the nodes visited by each thread in the most recent search, main thread first
+    public long[] getThreadNodes() {
+        long[] res = new long[searches.length];
+        for (int i = 0; i < searches.length; i++) {
+            res[i] = searches[i].getNodes();
+        }
+        return res;
+    }
+
+    // ===== getters =====
+    public int getThreads() {
+        return searches.length;
+    }
+
+    public TranspositionTable getTable() {
+        return table;
+    }
+}
@@ -0,0 +1,9 @@
+package engine;
+
+// Enum class representing when a transposition table store may overwrite the entry already in its slot
+public enum ReplacementPolicy {
+    // every store overwrites the slot
+    ALWAYS,
+    // a store overwrites the slot unless it holds a deeper search of another position from the current search
+    DEPTH_PREFERRED
+}
@@ -0,0 +1,319 @@
+package engine;
+
+import model.Board;
+import model.bitboard.GameTermination;
+import model.bitboard.MoveGenerator;
+import model.bitboard.Moves;
+import model.bitboard.Position;
+
+import java.util.Arrays;
+
+// Negamax alpha-beta search over the legal move tree, deepened one ply at a time until the depth limit is reached or
+// the time budget runs out, with a capture-only quiescence search at the leaves. The search walks its own copy of the
+// root Position with make/unmake and preallocated per-ply buffers, so it never touches the Board it was started from
+// and does not allocate while searching. Results are cached in a TranspositionTable, which several Searches may share.
+// A Search may be reused but only runs one search at a time.
+public class Search {
+    public static final int MAX_PLY = 64;
+    public static final int INFINITY = 32000;
+    public static final int MATE = 31000;
+    public static final int DEFAULT_TABLE_MEGABYTES = 16;
+    // the clock and stop flag are polled once every CHECK_INTERVAL + 1 nodes
+    private static final int CHECK_INTERVAL = 1023;
+    private static final int HASH_BONUS = 1 << 21;
+    private static final int PV_BONUS = 1 << 20;
+    private static final int CAPTURE_BONUS = 1 << 16;
+
+    private final TranspositionTable table;
+    private final int firstDepth;
+    private final Position position = new Position();
+    private final int[][] moveBuffers = new int[MAX_PLY][MoveGenerator.MAX_MOVES];
+    private final int[][] orderBuffers = new int[MAX_PLY][MoveGenerator.MAX_MOVES];
+    private final int[][] pvTable = new int[MAX_PLY][MAX_PLY];
+    private final int[] pvLength = new int[MAX_PLY];
+    private int[] previousPv = new int[0];
+    private long nodes;
+    private long deadline;
+    private boolean clockRunning;
+    private boolean timeUp;
+    private volatile boolean stopped;
+
+    // EFFECTS: creates a search with its own transposition table of DEFAULT_TABLE_MEGABYTES
+    public Search() {
+        this(new TranspositionTable(DEFAULT_TABLE_MEGABYTES));
+    }
+
+    // EFFECTS: creates a search that caches results in the given, possibly shared, transposition table
+    public Search(TranspositionTable table) {
+        this(table, 1);
+    }
+
+    // REQUIRES: firstDepth >= 1
+    // EFFECTS: creates a search sharing the given table whose iterations start at firstDepth plies; helper threads
+    //          of a parallel search start at different depths so they fill the table with different work
+    Search(TranspositionTable table, int firstDepth) {
+        this.table = table;
+        this.firstDepth = firstDepth;
+    }
+
+    // REQUIRES: maxDepth >= 1 and budgetMillis >= 0
+    // EFFECTS: searches the board's position for the side to move; see search(Position, int, long)
+    public SearchResult search(Board board, int maxDepth, long budgetMillis) {
+        return search(board.getPosition(), maxDepth, budgetMillis);
+    }
+
+    // REQUIRES: maxDepth >= 1 and budgetMillis >= 0
+    // MODIFIES: this
+    // EFFECTS: searches the root for the side to move, deepening until maxDepth plies have been searched, the time
+    //          budget has passed or stop is called, and returns the result of the deepest completed iteration. The
+    //          first iteration always completes, so a result carries a move whenever the side to move has one. Only
+    //          the table is shared with other searches, so searches of the same root on other threads are safe.
+    public SearchResult search(Position root, int maxDepth, long budgetMillis) {
+        table.newSearch();
+        return searchInGeneration(root, maxDepth, budgetMillis);
+    }
+
+    // REQUIRES: maxDepth >= 1 and budgetMillis >= 0
+    // MODIFIES: this
+    // EFFECTS: searches as search(Position, int, long) does, but stores its entries in the table's current
+    //          generation instead of starting a new one, so that all threads of a parallel search, which starts the
+    //          generation once, share it
+    SearchResult searchInGeneration(Position root, int maxDepth, long budgetMillis) {
+        long start = System.nanoTime();
+        position.copyFrom(root);
+        deadline = start + budgetMillis * 1_000_000L;
+        nodes = 0;
+        timeUp = false;
+        stopped = false;
+        previousPv = new int[0];
+        SearchResult result = new SearchResult(Moves.NONE, 0, previousPv, 0, 0, 0);
+        for (int depth = Math.min(firstDepth, maxDepth); depth <= Math.min(maxDepth, MAX_PLY - 1); depth++) {
+            clockRunning = depth > firstDepth;
+            int score = negamax(0, depth, -INFINITY, INFINITY);
+            if (timeUp) {
+                break;
+            }
+            previousPv = Arrays.copyOf(pvTable[0], pvLength[0]);
+            int best = previousPv.length == 0 ? Moves.NONE : previousPv[0];
+            result = new SearchResult(best, score, previousPv, depth, nodes, System.nanoTime() - start);
+            if (best == Moves.NONE || Math.abs(score) >= MATE - MAX_PLY) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: asks a running search, possibly on another thread, to return as soon as possible
+    public void stop() {
+        stopped = true;
+    }
+
+    // REQUIRES: depth >= 0
+    // MODIFIES: this
+    // EFFECTS: returns the score of the current position searched depth plies deep, clamped to [alpha, beta], and
+    //          records the principal variation from this ply; below the root a position that repeats an earlier one
+    //          or has reached the fifty-move rule is a draw
+    private int negamax(int ply, int depth, int alpha, int beta) {
+        if (depth == 0 || ply == MAX_PLY - 1) {
+            return quiescence(ply, alpha, beta);
+        }
+        pvLength[ply] = ply;
+        if (visitNode() || (ply > 0 && isDraw())) {
+            return 0;
+        }
+        long entry = table.probe(position.getHash());
+        if (ply > 0 && entry != TranspositionTable.NO_ENTRY && TranspositionTable.depth(entry) >= depth
+                && cutsOff(entry, ply, alpha, beta)) {
+            return fromTable(TranspositionTable.score(entry), ply);
+        }
+        int count = MoveGenerator.generateLegalMoves(position, moveBuffers[ply]);
+        if (count == 0) {
+            return noMovesScore(ply);
+        }
+        scoreMoves(ply, count, TranspositionTable.move(entry));
+        return searchMoves(ply, depth, alpha, beta, count);
+    }
+
+    // EFFECTS: returns true if the current position repeats one since the last capture or pawn move, which the side
+    //          that gains from a draw can go on repeating until the third time, or if the fifty-move rule has been
+    //          reached
+    private boolean isDraw() {
+        return position.countRepetitions() >= 1 || position.getHalfmoveClock() >= GameTermination.FIFTY_MOVE_PLIES;
+    }
+
+    // REQUIRES: depth >= 1 and the count legal moves at this ply have been generated and scored
+    // MODIFIES: this
+    // EFFECTS: searches the moves at this ply best first, stores the outcome in the transposition table and returns
+    //          the score of the position clamped to [alpha, beta]
+    private int searchMoves(int ply, int depth, int alpha, int beta, int count) {
+        int originalAlpha = alpha;
+        int bestMove = Moves.NONE;
+        for (int i = 0; i < count && alpha < beta; i++) {
+            int move = pickMove(ply, i, count);
+            position.makeMove(move);
+            int score = -negamax(ply + 1, depth - 1, -beta, -alpha);
+            position.unmakeMove();
+            if (timeUp) {
+                return 0;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestMove = move;
+                updatePv(ply, move);
+            }
+        }
+        int bound = alpha >= beta ? TranspositionTable.BOUND_LOWER
+                : alpha > originalAlpha ? TranspositionTable.BOUND_EXACT : TranspositionTable.BOUND_UPPER;
+        table.store(position.getHash(), bestMove, toTable(alpha, ply), depth, bound);
+        return alpha;
+    }
+
+    // EFFECTS: returns true if a table entry deep enough for this node settles its score within [alpha, beta]
+    private static boolean cutsOff(long entry, int ply, int alpha, int beta) {
+        int score = fromTable(TranspositionTable.score(entry), ply);
+        int bound = TranspositionTable.bound(entry);
+        return bound == TranspositionTable.BOUND_EXACT
+                || (bound == TranspositionTable.BOUND_LOWER && score >= beta)
+                || (bound == TranspositionTable.BOUND_UPPER && score <= alpha);
+    }
+
+    // EFFECTS: converts a score found ply plies from the root into one relative to the current node, so mate
+    //          distances stay correct wherever a table entry is reused
+    private static int toTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) {
+            return score + ply;
+        }
+        return score <= -MATE + MAX_PLY ? score - ply : score;
+    }
+
+    // EFFECTS: converts a score read from the table back to one measured from the root, ply plies up
+    private static int fromTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) {
+            return score - ply;
+        }
+        return score <= -MATE + MAX_PLY ? score + ply : score;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the score of the current position once all captures have been played out, clamped to
+    //          [alpha, beta]; the side to move may always stand pat instead of capturing
+    private int quiescence(int ply, int alpha, int beta) {
+        pvLength[ply] = ply;
+        if (visitNode()) {
+            return 0;
+        }
+        int[] moves = moveBuffers[ply];
+        int count = MoveGenerator.generateLegalMoves(position, moves);
+        if (count == 0) {
+            return noMovesScore(ply);
+        }
+        alpha = Math.max(alpha, Evaluator.evaluate(position));
+        if (ply == MAX_PLY - 1) {
+            return alpha;
+        }
+        count = keepCaptures(moves, count);
+        scoreMoves(ply, count, Moves.NONE);
+        for (int i = 0; i < count && alpha < beta; i++) {
+            int move = pickMove(ply, i, count);
+            position.makeMove(move);
+            int score = -quiescence(ply + 1, -beta, -alpha);
+            position.unmakeMove();
+            if (timeUp) {
+                return 0;
+            }
+            alpha = Math.max(alpha, score);
+        }
+        return alpha;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: counts a node and returns true if the search has run out of time or been stopped; neither applies
+    //          during the first iteration
+    private boolean visitNode() {
+        nodes++;
+        if ((nodes & CHECK_INTERVAL) == 0 && clockRunning && (stopped || System.nanoTime() - deadline > 0)) {
+            timeUp = true;
+        }
+        return timeUp;
+    }
+
+    // EFFECTS: returns the score of a position without legal moves: mated in ply plies if in check, otherwise drawn
+    private int noMovesScore(int ply) {
+        return position.isInCheck(position.getSideToMove()) ? -MATE + ply : 0;
+    }
+
+    // MODIFIES: moves
+    // EFFECTS: moves the captures among the first count moves to the front and returns how many there are
+    private static int keepCaptures(int[] moves, int count) {
+        int captures = 0;
+        for (int i = 0; i < count; i++) {
+            if (Moves.isCapture(moves[i])) {
+                moves[captures++] = moves[i];
+            }
+        }
+        return captures;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: gives each of the first count moves at this ply an ordering key: the transposition table move first,
+    //          then the previous iteration's principal move, then captures by most valuable victim and least valuable
+    //          attacker, then quiet moves
+    private void scoreMoves(int ply, int count, int hashMove) {
+        int[] moves = moveBuffers[ply];
+        int[] order = orderBuffers[ply];
+        int pvMove = ply < previousPv.length ? previousPv[ply] : Moves.NONE;
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            int key = 0;
+            if (move == hashMove) {
+                key = HASH_BONUS;
+            } else if (move == pvMove) {
+                key = PV_BONUS;
+            } else if (Moves.isCapture(move)) {
+                int victim = Position.typeOf(position.getPieceCode(Moves.to(move)));
+                int attacker = Position.typeOf(position.getPieceCode(Moves.from(move)));
+                key = CAPTURE_BONUS + Evaluator.pieceValue(victim) * 16 - Evaluator.pieceValue(attacker) / 16;
+            }
+            order[i] = key;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: swaps the best remaining move at this ply into slot index and returns it
+    private int pickMove(int ply, int index, int count) {
+        int[] moves = moveBuffers[ply];
+        int[] order = orderBuffers[ply];
+        int best = index;
+        for (int i = index + 1; i < count; i++) {
+            if (order[i] > order[best]) {
+                best = i;
+            }
+        }
+        int move = moves[best];
+        moves[best] = moves[index];
+        order[best] = order[index];
+        moves[index] = move;
+        order[index] = 0;
+        return move;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the principal variation at this ply the given move followed by the one found below it
+    private void updatePv(int ply, int move) {
+        pvTable[ply][ply] = move;
+        int length = pvLength[ply + 1];
+        System.arraycopy(pvTable[ply + 1], ply + 1, pvTable[ply], ply + 1, length - ply - 1);
+        pvLength[ply] = length;
+    }
+
+    // ===== getters =====
+    public TranspositionTable getTable() {
+        return table;
+    }
+
+    // EFFECTS: returns the number of nodes visited by the current or most recent search
+    public long getNodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,94 @@
+package engine;
+
+import model.bitboard.Bitboards;
+import model.bitboard.Moves;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Outcome of a search: the best move found, its score, the principal variation leading from it, and how much work
+// the deepest completed iteration took
+public class SearchResult {
+    private final int bestMove;
+    private final int score;
+    private final int[] principalVariation;
+    private final int depth;
+    private final long nodes;
+    private final long nanos;
+
+    // REQUIRES: principalVariation is empty or starts with bestMove
+    // EFFECTS: creates a result for a search that completed the given depth
+    public SearchResult(int bestMove, int score, int[] principalVariation, int depth, long nodes, long nanos) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.principalVariation = Arrays.copyOf(principalVariation, principalVariation.length);
+        this.depth = depth;
+        this.nodes = nodes;
+        this.nanos = nanos;
+    }
+
+    // EFFECTS: returns this result with its node count and elapsed time replaced, e.g. by the totals of a parallel
+    //          search
+    public SearchResult withWork(long nodes, long nanos) {
+        return new SearchResult(bestMove, score, principalVariation, depth, nodes, nanos);
+    }
+
+    // EFFECTS: returns true if the search found a move, i.e. the side to move was not already mated or stalemated
+    public boolean hasMove() {
+        return bestMove != Moves.NONE;
+    }
+
+    // REQUIRES: hasMove()
+    // EFFECTS: returns the origin square of the best move, e.g. "e2"
+    public String getFromPos() {
+        return Bitboards.nameOf(Moves.from(bestMove));
+    }
+
+    // REQUIRES: hasMove()
+    // EFFECTS: returns the destination square of the best move, e.g. "e4"
+    public String getToPos() {
+        return Bitboards.nameOf(Moves.to(bestMove));
+    }
+
+    // EFFECTS: returns true if the score is a forced mate for either side
+    public boolean isMateScore() {
+        return Math.abs(score) >= Search.MATE - Search.MAX_PLY;
+    }
+
+    // EFFECTS: returns the principal variation in coordinate notation, e.g. ["e2e4", "e7e5"]
+    public List<String> getPrincipalVariation() {
+        List<String> res = new ArrayList<>();
+        for (int move : principalVariation) {
+            res.add(Moves.format(move));
+        }
+        return res;
+    }
+
+    // EFFECTS: returns the number of nodes searched per second
+    public long getNodesPerSecond() {
+        return nanos == 0 ? 0 : nodes * 1_000_000_000L / nanos;
+    }
+
+    // ===== getters =====
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    // EFFECTS: returns the score in centipawns from the point of view of the side to move
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+}
@@ -0,0 +1,169 @@
+package engine;
+
+import model.bitboard.Moves;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+// Fixed-size hash table of search results keyed by Zobrist position hash, shared by any number of search threads
+// without locks. Each slot is a pair of longs in two preallocated arrays: the packed entry, and the position hash
+// XORed with that entry. A reader only accepts an entry whose two halves XOR back to the hash it probed for, so a
+// slot torn by concurrent writers reads as a miss instead of as another position's data.
+//
+// Entry layout, from the lowest bit: move (16 bits), score (16 bits, signed), depth (8 bits), bound (2 bits),
+// generation (8 bits) and a set valid bit (bit 50), so a stored entry is never zero.
+public class TranspositionTable {
+    public static final long NO_ENTRY = 0;
+    public static final int BOUND_EXACT = 0;
+    public static final int BOUND_LOWER = 1;
+    public static final int BOUND_UPPER = 2;
+    public static final int BYTES_PER_ENTRY = 16;
+    private static final long VALID = 1L << 50;
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int mask;
+    private final ReplacementPolicy policy;
+    private volatile int generation;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    // REQUIRES: megabytes >= 1
+    // EFFECTS: creates an empty table of the largest power-of-two number of slots fitting in the given number of
+    //          megabytes, using the given replacement policy
+    public TranspositionTable(int megabytes, ReplacementPolicy policy) {
+        long slots = Long.highestOneBit((long) megabytes * 1024 * 1024 / BYTES_PER_ENTRY);
+        int size = (int) Math.min(slots, 1 << 30);
+        this.keys = new long[size];
+        this.entries = new long[size];
+        this.mask = size - 1;
+        this.policy = policy;
+    }
+
+    // REQUIRES: megabytes >= 1
+    // EFFECTS: creates an empty depth-preferred table of the given size in megabytes
+    public TranspositionTable(int megabytes) {
+        this(megabytes, ReplacementPolicy.DEPTH_PREFERRED);
+    }
+
+    // EFFECTS: returns the entry stored for the position hash, or NO_ENTRY if there is none
+    public long probe(long hash) {
+        int slot = (int) hash & mask;
+        long entry = entries[slot];
+        long key = keys[slot];
+        probes.increment();
+        if (entry != NO_ENTRY && (key ^ entry) == hash) {
+            hits.increment();
+            return entry;
+        }
+        if (entry != NO_ENTRY) {
+            collisions.increment();
+        }
+        return NO_ENTRY;
+    }
+
+    // REQUIRES: 0 <= depth < 256, |score| < 32768 and bound is one of the BOUND constants
+    // MODIFIES: this
+    // EFFECTS: stores a search result for the position hash if the replacement policy allows it; a move of NONE keeps
+    //          the move already stored for the same position
+    public void store(long hash, int move, int score, int depth, int bound) {
+        int slot = (int) hash & mask;
+        long old = entries[slot];
+        boolean samePosition = old != NO_ENTRY && (keys[slot] ^ old) == hash;
+        if (!replaces(old, samePosition, depth)) {
+            return;
+        }
+        if (move == Moves.NONE && samePosition) {
+            move = move(old);
+        }
+        long entry = VALID | ((long) generation << 42) | ((long) bound << 40) | ((long) depth << 32)
+                | ((long) (score & 0xFFFF) << 16) | (move & 0xFFFF);
+        entries[slot] = entry;
+        keys[slot] = hash ^ entry;
+        stores.increment();
+    }
+
+    // EFFECTS: returns true if a store of the given depth may overwrite the old entry of its slot
+    private boolean replaces(long old, boolean samePosition, int depth) {
+        if (policy == ReplacementPolicy.ALWAYS || old == NO_ENTRY || samePosition) {
+            return true;
+        }
+        return generation(old) != generation || depth >= depth(old);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the start of a new search, so entries left by earlier searches are replaced first
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes every entry and resets the counters
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(entries, NO_ENTRY);
+        probes.reset();
+        hits.reset();
+        collisions.reset();
+        stores.reset();
+    }
+
+    // EFFECTS: returns the best move of an entry, or Moves.NONE if it has none
+    public static int move(long entry) {
+        return (int) (entry & 0xFFFF);
+    }
+
+    // EFFECTS: returns the score of an entry
+    public static int score(long entry) {
+        return (short) (entry >>> 16);
+    }
+
+    // EFFECTS: returns the search depth of an entry
+    public static int depth(long entry) {
+        return (int) (entry >>> 32) & 0xFF;
+    }
+
+    // EFFECTS: returns the bound type of an entry, one of the BOUND constants
+    public static int bound(long entry) {
+        return (int) (entry >>> 40) & 0x3;
+    }
+
+    // EFFECTS: returns the generation in which an entry was stored
+    private static int generation(long entry) {
+        return (int) (entry >>> 42) & 0xFF;
+    }
+
+    // EFFECTS: returns the fraction of probes that found their position
+    public double getHitRate() {
+        long total = probes.sum();
+        return total == 0 ? 0 : (double) hits.sum() / total;
+    }
+
+    // ===== getters =====
+    public int getSize() {
+        return entries.length;
+    }
+
+    public ReplacementPolicy getPolicy() {
+        return policy;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    // EFFECTS: returns the number of probes that found a different position in their slot
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    public long getStores() {
+        return stores.sum();
+    }
+}
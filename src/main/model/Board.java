@@ -1,8 +1,15 @@
 package model;
 
 import model.enums.Action;
+import model.enums.GameState;
 import model.enums.Side;
 import model.enums.Type;
+import model.bitboard.Bitboards;
+import model.bitboard.Fen;
+import model.bitboard.GameTermination;
+import model.bitboard.MoveGenerator;
+import model.bitboard.Moves;
+import model.bitboard.Position;
 import model.pieces.*;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -11,32 +18,127 @@ import java.util.*;
 
 // Representation of the chess board where a game is played. Squares are denoted by standard algebraic chess notation.
 // Contains functionality for moving pieces, checking for mates, keeping a move history, and more.
+// Piece objects are kept in a 64-square array indexed a1 = 0 to h8 = 63, mirrored by a bitboard Position that answers
+// attack and check queries without scanning the board. Every move made can be taken back with unmakeMove.
+// A board is not thread-safe, but whenever its game changes it publishes an immutable PositionSnapshot through a
+// volatile field, which other threads may read at any time with getSnapshot. Moves made and taken back with packed
+// ints, as search does, are not published.
 public class Board {
-    private final HashMap<String, Piece> board = new HashMap<>();
+    private final Piece[] board = new Piece[64];
+    private final Position position = new Position();
+    // per move made, the Piece it captured and whether it was recorded in the move list; parallel to the position's
+    // undo stack
+    private Piece[] capturedPieces = new Piece[64];
+    private boolean[] recordedMoves = new boolean[64];
     public static final List<String> COLUMNS = new ArrayList<>(Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h"));
     public static final List<String> ROWS = new ArrayList<>(Arrays.asList("1", "2", "3", "4", "5", "6", "7", "8"));
-    private Side currentTurn;
     private MoveList moveList;
     private boolean gameOver;
     private EventLog eventLog = EventLog.getInstance();
+    private volatile PositionSnapshot snapshot;
 
     // EFFECTS: creates new 8 x 8 chess board with squares using algebraic notation (e.g. "a4") for coordinates
     //          initialize White and Black pieces at their starting positions
     //          create a new move history to keep track of all the moves in the game
     public Board() {
-        this.currentTurn = Side.WHITE;
         this.moveList = new MoveList();
         this.gameOver = false;
 
-        for (String col : COLUMNS) {
-            for (String row : ROWS) {
-                String coordinate = col + row;
-                this.board.put(coordinate, null);
-            }
-        }
-
         initWhitePieces();
         initBlackPieces();
+        snapshot = PositionSnapshot.of(position, Collections.emptyList(), false);
+    }
+
+    // EFFECTS: creates an empty board with White to move and no move history
+    private Board(MoveList moveList) {
+        this.moveList = moveList;
+        this.gameOver = false;
+    }
+
+    // EFFECTS: returns a new board holding the position described by the FEN record, e.g.
+    //          "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1", with no move history; pawns on their
+    //          starting rank may still advance two squares. Throws IllegalArgumentException if fen is not valid.
+    public static Board fromFen(CharSequence fen) {
+        Board board = new Board(new MoveList());
+        Fen.parse(fen, board.position);
+        board.createPieces();
+        board.gameOver = GameTermination.classify(board.position) != GameState.ONGOING;
+        board.snapshot = PositionSnapshot.of(board.position, Collections.emptyList(), board.gameOver);
+        return board;
+    }
+
+    // REQUIRES: position has an empty undo stack
+    // EFFECTS: returns a new board holding a copy of position, with the given move history and game over flag; the
+    //          halfmove clock is counted from the move history as far as it goes back
+    public static Board fromPosition(Position position, MoveList moveList, boolean gameOver) {
+        Board board = new Board(moveList);
+        board.position.copyFrom(position);
+        board.countHalfmoveClock();
+        board.createPieces();
+        board.gameOver = gameOver;
+        board.snapshot = PositionSnapshot.of(board.position, moveList.getAllMoves(), gameOver);
+        return board;
+    }
+
+    // EFFECTS: returns a new board holding the game of snapshot, e.g. to save or analyse it apart from the board it
+    //          was taken from
+    public static Board fromSnapshot(PositionSnapshot snapshot) {
+        return fromPosition(snapshot.toPosition(), new MoveList(snapshot.getMoves()), snapshot.getGameOver());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: creates a Piece object for every piece of the position
+    private void createPieces() {
+        for (long occupied = position.getOccupied(); occupied != 0; occupied &= occupied - 1) {
+            int sq = Long.numberOfTrailingZeros(occupied);
+            board[sq] = createPiece(sq, position.getPieceCode(sq));
+        }
+    }
+
+    // EFFECTS: returns a new Piece object for the piece with the given code on sq of this board
+    private Piece createPiece(int sq, int code) {
+        Side side = Position.sideEnum(Position.sideOf(code));
+        String pos = Bitboards.nameOf(sq);
+        switch (Position.typeEnum(Position.typeOf(code))) {
+            case KING:
+                return new King(side, pos, this);
+            case QUEEN:
+                return new Queen(side, pos, this);
+            case ROOK:
+                return new Rook(side, pos, this);
+            case BISHOP:
+                return new Bishop(side, pos, this);
+            case KNIGHT:
+                return new Knight(side, pos, this);
+            default:
+                Pawn pawn = new Pawn(side, pos, this);
+                pawn.setAtStartPos((position.getPawnStarts() & (1L << sq)) != 0);
+                return pawn;
+        }
+    }
+
+    // EFFECTS: returns the FEN record of the current position; the halfmove clock counts the moves since the last
+    //          capture or pawn move and the fullmove number counts on from the one the board was set up with by the
+    //          moves in its history
+    public String toFen() {
+        return Fen.format(position, position.getHalfmoveClock(),
+                Fen.fullmoveNumber(position, moveList.getAllMoves().size()));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the halfmove clock of the position to the number of moves since the last capture or pawn move in
+    //          the move history; if the history has no such move, the clock the position already has is kept when it
+    //          is higher, as for a game set up from a FEN record
+    private void countHalfmoveClock() {
+        List<Move> moves = moveList.getAllMoves();
+        int halfmoveClock = 0;
+        while (halfmoveClock < moves.size() && !moves.get(moves.size() - 1 - halfmoveClock).isIrreversible()) {
+            halfmoveClock++;
+        }
+        if (halfmoveClock == moves.size()) {
+            halfmoveClock = Math.max(halfmoveClock, position.getHalfmoveClock());
+        }
+        position.setHalfmoveClock(halfmoveClock);
     }
 
     // MODIFIES: this
@@ -46,33 +148,33 @@ public class Board {
         for (int colIndex = 0; colIndex < 8; colIndex++) {
             String pos = Board.COLUMNS.get(colIndex) + 2;
             Piece p = new Pawn(Side.WHITE, pos, this);
-            board.put(pos, p);
+            placePiece(pos, p);
         }
         // rooks
         Piece r1 = new Rook(Side.WHITE, "a1", this);
         Piece r2 = new Rook(Side.WHITE, "h1", this);
-        board.put("a1", r1);
-        board.put("h1", r2);
+        placePiece("a1", r1);
+        placePiece("h1", r2);
 
         // knights
         Piece n1 = new Knight(Side.WHITE, "b1", this);
         Piece n2 = new Knight(Side.WHITE, "g1", this);
-        board.put("b1", n1);
-        board.put("g1", n2);
+        placePiece("b1", n1);
+        placePiece("g1", n2);
 
         // bishops
         Piece b1 = new Bishop(Side.WHITE, "c1", this);
         Piece b2 = new Bishop(Side.WHITE, "f1", this);
-        board.put("c1", b1);
-        board.put("f1", b2);
+        placePiece("c1", b1);
+        placePiece("f1", b2);
 
         // king
         Piece k = new King(Side.WHITE, "e1", this);
-        board.put("e1", k);
+        placePiece("e1", k);
 
         // queen
         Piece q = new Queen(Side.WHITE, "d1", this);
-        board.put("d1", q);
+        placePiece("d1", q);
     }
 
     // MODIFIES this
@@ -82,33 +184,33 @@ public class Board {
         for (int colIndex = 0; colIndex < 8; colIndex++) {
             String pos = Board.COLUMNS.get(colIndex) + 7;
             Piece p = new Pawn(Side.BLACK, pos, this);
-            board.put(pos, p);
+            placePiece(pos, p);
         }
         // rooks
         Piece r1 = new Rook(Side.BLACK, "a8", this);
         Piece r2 = new Rook(Side.BLACK, "h8", this);
-        board.put("a8", r1);
-        board.put("h8", r2);
+        placePiece("a8", r1);
+        placePiece("h8", r2);
 
         // knights
         Piece n1 = new Knight(Side.BLACK, "b8", this);
         Piece n2 = new Knight(Side.BLACK, "g8", this);
-        board.put("b8", n1);
-        board.put("g8", n2);
+        placePiece("b8", n1);
+        placePiece("g8", n2);
 
         // bishops
         Piece b1 = new Bishop(Side.BLACK, "c8", this);
         Piece b2 = new Bishop(Side.BLACK, "f8", this);
-        board.put("c8", b1);
-        board.put("f8", b2);
+        placePiece("c8", b1);
+        placePiece("f8", b2);
 
         // king
         Piece k = new King(Side.BLACK, "e8", this);
-        board.put("e8", k);
+        placePiece("e8", k);
 
         // queen
         Piece q = new Queen(Side.BLACK, "d8", this);
-        board.put("d8", q);
+        placePiece("d8", q);
     }
 
     // REQUIRES: there is a piece at fromPos and
@@ -116,28 +218,26 @@ public class Board {
     // MODIFIES: this, piece
     // EFFECTS: moves the piece at fromPos to toPos
     //          makes it the opponent's turn to move
-    //          checks if opponent is checkmated after this move
+    //          checks if the game has ended after this move, by checkmate or by a draw
     //          add move to move history
     public void makeMove(String fromPos, String toPos) {
         Piece fromPiece = getPiece(fromPos);
         Piece toPiece = getPiece(toPos);
 
-        movePiece(fromPos, toPos);
-        currentTurn = (currentTurn == Side.WHITE) ? Side.BLACK : Side.WHITE;
+        playMove(MoveGenerator.encodeMove(position, Bitboards.squareOf(fromPos), Bitboards.squareOf(toPos)), true);
 
-        Move move = constructMove(fromPiece, fromPos, toPiece, toPos);
+        GameState state = GameTermination.classify(position);
+        gameOver = state != GameState.ONGOING;
+        Move move = constructMove(fromPiece, fromPos, toPiece, toPos, state == GameState.CHECKMATE);
         moveList.addMove(move);
-
-        if (isCheckmate()) {
-            gameOver = true;
-        }
+        snapshot = snapshot.withMove(position, move, gameOver);
 
         eventLog.logEvent(new Event("Piece moved from " + fromPos + " to " + toPos));
     }
 
-    // REQUIRES: all parameters are accurate data of an actual move in a game
+    // REQUIRES: all parameters are accurate data of an actual move in a game, which has just been played
     // EFFECTS: Returns a new move object constructed from the given data
-    private Move constructMove(Piece fromPiece, String fromPos, Piece toPiece, String toPos) {
+    private Move constructMove(Piece fromPiece, String fromPos, Piece toPiece, String toPos, boolean checkmate) {
         List<Action> actions = new ArrayList<>();
         Side fromSide = fromPiece.getSide();
         Type fromType = fromPiece.pieceType;
@@ -149,7 +249,7 @@ public class Board {
             actions.add(Action.TAKE);
         }
 
-        if (getGameOver()) {
+        if (checkmate) {
             actions.add(Action.CHECKMATE);
         } else if (isCheck()) {
             actions.add(Action.CHECK);
@@ -158,123 +258,109 @@ public class Board {
         return new Move(fromSide, fromType, fromPos, fromId, actions, toSide, toType, toPos);
     }
 
-    // REQUIRES: there is a piece at fromPos and
-    //           move from fromPos to toPos is a valid move for that piece
+    // REQUIRES: move is a legal packed move (see model.bitboard.Moves) for the current turn player
     // MODIFIES: this, piece
-    // EFFECTS: moves piece at one position to another position on the board
-    //          remove any opponent piece already at that position
-    private void movePiece(String fromPos, String toPos) {
-        Piece p = getPiece(fromPos);
-        p.setPos(toPos);
-        board.put(toPos, p);
-        board.put(fromPos, null);
+    // EFFECTS: plays the move and passes the turn, without recording it in the move history or checking for mate;
+    //          meant for search and analysis, which take the move back with unmakeMove
+    public void makeMove(int move) {
+        playMove(move, false);
     }
 
-    // EFFECTS: return true if current turn player is checkmated and false otherwise
-    public boolean isCheckmate() {
-        List<Piece> currentTurnPieces = new ArrayList<>();
-        for (String move : board.keySet()) {
-            if (board.get(move) != null && getPiece(move).getSide() == currentTurn) {
-                currentTurnPieces.add(getPiece(move));
-            }
+    // REQUIRES: there is a piece on the origin square of move
+    // MODIFIES: this, piece
+    // EFFECTS: moves the piece, removing any opponent piece already on the destination, passes the turn and pushes
+    //          what is needed to take the move back
+    private void playMove(int move, boolean recorded) {
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        int depth = position.getUndoDepth();
+        if (depth == capturedPieces.length) {
+            capturedPieces = Arrays.copyOf(capturedPieces, depth * 2);
+            recordedMoves = Arrays.copyOf(recordedMoves, depth * 2);
         }
+        capturedPieces[depth] = board[to];
+        recordedMoves[depth] = recorded;
+        Piece p = board[from];
+        p.setPos(Bitboards.nameOf(to));
+        board[to] = p;
+        board[from] = null;
+        position.makeMove(move);
+    }
 
-        for (Piece p : currentTurnPieces) {
-            List<String> legalMoves = p.getLegalMoves();
-            if (legalMoves.size() != 0) {
-                return false;
-            }
+    // REQUIRES: canUnmakeMove()
+    // MODIFIES: this, piece
+    // EFFECTS: takes back the most recent move, restoring the captured piece, the moved pawn's starting status, the
+    //          turn and the position key; a move recorded by makeMove(String, String) is also removed from the move
+    //          history and the game is no longer over
+    public void unmakeMove() {
+        int move = position.unmakeMove();
+        int depth = position.getUndoDepth();
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        Piece p = board[to];
+        p.setPos(Bitboards.nameOf(from), false);
+        if (p.pieceType == Type.PAWN) {
+            ((Pawn) p).setAtStartPos((position.getPawnStarts() & (1L << from)) != 0);
+        }
+        board[from] = p;
+        board[to] = capturedPieces[depth];
+        capturedPieces[depth] = null;
+        if (recordedMoves[depth]) {
+            moveList.removeLastMove();
+            gameOver = false;
+            snapshot = snapshot.withoutLastMove(position, false);
+            eventLog.logEvent(new Event("Move from " + Bitboards.nameOf(from) + " to " + Bitboards.nameOf(to)
+                    + " taken back"));
         }
+    }
 
-        return true;
+    // EFFECTS: returns true if there is a move that unmakeMove can take back
+    public boolean canUnmakeMove() {
+        return position.getUndoDepth() > 0;
     }
 
-    // EFFECTS: return true if current turn player is checked
-    public boolean isCheck() {
-        boolean result = false;
-        for (String pos : board.keySet()) {
-            if (getPiece(pos) != null) {
-                List<String> legalMovesForThisPiece = getPiece(pos).getLegalMovesViolateCheck();
-                for (String move : legalMovesForThisPiece) {
-                    Piece newMove = getPiece(move);
-                    boolean conditions = newMove != null && newMove.pieceType == Type.KING
-                            && newMove.getSide() == currentTurn;
-                    if (conditions) {
-                        result = true;
-                        break;
-                    }
-                }
-            }
-        }
+    // EFFECTS: return true if current turn player is checkmated and false otherwise
+    public boolean isCheckmate() {
+        return isCheck() && !MoveGenerator.hasLegalMove(position);
+    }
 
-        return result;
+    // EFFECTS: return true if current turn player is not in check but has no legal move, and false otherwise
+    public boolean isStalemate() {
+        return !isCheck() && !MoveGenerator.hasLegalMove(position);
     }
 
+    // EFFECTS: return true if current turn player is checked
+    public boolean isCheck() {
+        return position.isInCheck(position.getSideToMove());
+    }
 
     // REQUIRES: there is a piece at fromPos and
     //           move from fromPos to toPos is a valid move for that piece
-    // MODIFIES: this, piece
-    // EFFECTS: return true if given move will violate check
+    // EFFECTS: return true if given move will leave the moving side's king attacked
     //          else return false
     public boolean willViolateCheck(String fromPos, String toPos) {
-        Piece tempPiece = getPiece(toPos);
-        Piece tempPiece2 = getPiece(fromPos);
-        Side pieceColor = tempPiece2.getSide();
-
-        testMove(fromPos, toPos, tempPiece, tempPiece2, false);
-
-        for (String pos : board.keySet()) {
-            if (getPiece(pos) != null) {
-                List<String> legalMovesForThisPiece = getPiece(pos).getLegalMovesViolateCheck();
-                for (String move : legalMovesForThisPiece) {
-                    Piece newMove = getPiece(move);
-                    if (newMove != null && newMove.pieceType == Type.KING && newMove.getSide() == pieceColor) {
-                        testMove(fromPos, toPos, tempPiece, tempPiece2, true);
-                        return true;
-                    }
-                }
-            }
-        }
-
-        testMove(fromPos, toPos, tempPiece, tempPiece2, true);
-        return false;
+        return position.leavesKingAttacked(Bitboards.squareOf(fromPos), Bitboards.squareOf(toPos));
     }
 
-    // MODIFIES: this, piece
-    // EFFECTS: helper method that performs a "test move" for legal move generation purposes
-    //          makes a "move" on the chess board with option to revert back to original state
-    private void testMove(String fromPos, String toPos, Piece tempPiece, Piece tempPiece2, boolean reset) {
-        if (!reset) {
-            board.put(toPos, tempPiece2);
-            if (tempPiece2.pieceType == Type.PAWN) {
-                tempPiece2.setPos(toPos, false);
-            } else {
-                tempPiece2.setPos(toPos);
-            }
-            board.put(fromPos, null);
-        } else {
-            board.put(toPos, tempPiece);
-            board.put(fromPos, tempPiece2);
-
-            // reset temp piece position back to original
-            if (tempPiece2.pieceType == Type.PAWN) {
-                tempPiece2.setPos(fromPos, false);
-            } else {
-                tempPiece2.setPos(fromPos);
-            }
-        }
+    // REQUIRES: moves has room for MoveGenerator.MAX_MOVES entries
+    // MODIFIES: moves
+    // EFFECTS: writes the legal moves of the current turn player into moves as packed ints (see model.bitboard.Moves)
+    //          and returns how many were written
+    public int generateLegalMoves(int[] moves) {
+        return MoveGenerator.generateLegalMoves(position, moves);
     }
 
-    // EFFECTS: removes all pieces from the board by setting the value at a position to null
+    // EFFECTS: removes all pieces from the board by setting the value at a position to null; as the first step of
+    //          setting up a position it does not publish a snapshot (see placePiece)
     public void clearBoard() {
-        for (String pos : getAllPositions()) {
-            board.put(pos, null);
-        }
+        Arrays.fill(board, null);
+        position.clear();
     }
 
     // EFFECTS: adds given formatted move to the game's move history
     public void addMoveToMoveList(Move move) {
         moveList.addMove(move);
+        snapshot = snapshot.withMove(position, move, gameOver);
     }
 
     // ===== getters =====
@@ -288,10 +374,10 @@ public class Board {
     //          e.g. ["e5", "e2", "g5"]
     public List<String> getAvailableCoords() {
         List<String> res = new ArrayList<>();
-        for (String coord: board.keySet()) {
-            if (getPiece(coord) != null && getPiece(coord).getSide() == currentTurn) {
-                res.add(coord);
-            }
+        long available = position.getOccupancy(position.getSideToMove());
+        while (available != 0) {
+            res.add(Bitboards.nameOf(Bitboards.lowestSquare(available)));
+            available &= available - 1;
         }
 
         return res;
@@ -299,52 +385,130 @@ public class Board {
 
     // EFFECTS: get number of pieces on the board available to the current player
     public int getNumAvailablePieces() {
-        return getAvailableCoords().size();
+        return Long.bitCount(position.getOccupancy(position.getSideToMove()));
     }
 
     // EFFECTS: returns a list of length 64 of the coordinates of all the squares of the chess board
     public List<String> getAllPositions() {
-        return new ArrayList<>(board.keySet());
+        return new ArrayList<>(Bitboards.allSquareNames());
     }
 
-    // REQUIRES: pos is a valid position on the chess board
-    // EFFECTS: return the piece at the given position or null if empty
+    // EFFECTS: return the piece at the given position or null if empty or not a square on the board
     public Piece getPiece(String pos) {
-        return board.get(pos);
+        int sq = Bitboards.squareOf(pos);
+        return sq < 0 ? null : board[sq];
+    }
+
+    // EFFECTS: returns a 64-bit Zobrist key identifying the pieces on the board, pawns' starting status and the turn
+    public long positionKey() {
+        return position.getHash();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: recomputes the position key from scratch from the pieces on the board, without publishing a snapshot
+    public void recomputePositionKey() {
+        position.refreshHash();
+    }
+
+    // EFFECTS: returns an immutable snapshot of the game as of the last change made to it; may be called from any
+    //          thread while the game is played on another
+    public PositionSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // EFFECTS: returns the bitboard position mirroring this board
+    public Position getPosition() {
+        return position;
     }
 
     public Side getCurrentTurn() {
-        return currentTurn;
+        return Position.sideEnum(position.getSideToMove());
     }
 
-    // EFFECTS: returns if the game is over or not (checkmate)
+    // EFFECTS: returns if the game is over or not (checkmate or a draw)
     public boolean getGameOver() {
         return gameOver;
     }
 
-    // REQUIRES: one player has won the game and the game is over
-    // EFFECTS: returns a formatted string of the game's winner, i.e. "White" or "Black"
+    // EFFECTS: returns how the game has ended, or ONGOING if it is not over. A game that is over with a legal move to
+    //          play and enough material on the board was drawn by the fifty-move rule if the halfmove clock has
+    //          reached it, and otherwise by repetition, which a board loaded from a save cannot see again.
+    public GameState getGameState() {
+        if (!gameOver) {
+            return GameState.ONGOING;
+        }
+        GameState state = GameTermination.classify(position);
+        if (state != GameState.ONGOING) {
+            return state;
+        }
+        return position.getHalfmoveClock() >= GameTermination.FIFTY_MOVE_PLIES
+                ? GameState.FIFTY_MOVE_RULE : GameState.THREEFOLD_REPETITION;
+    }
+
+    // REQUIRES: the game is over
+    // EFFECTS: returns a formatted string of the game's winner, i.e. "White" or "Black", or "Draw" if it was drawn
     public String getWinner() {
-        Side winnerColor = currentTurn == Side.WHITE ? Side.BLACK : Side.WHITE;
+        if (getGameState() != GameState.CHECKMATE) {
+            return "Draw";
+        }
+        Side winnerColor = getCurrentTurn() == Side.WHITE ? Side.BLACK : Side.WHITE;
         String winner = winnerColor.toString();
         return winner.substring(0, 1).toUpperCase() + winner.substring(1).toLowerCase();
     }
 
     // ===== setters =====
     public void setCurrentTurn(Side currentTurn) {
-        this.currentTurn = currentTurn;
+        position.setSideToMove(currentTurn.ordinal());
+        publishSnapshot();
     }
 
     public void setGameOver(boolean gameOver) {
         this.gameOver = gameOver;
+        publishSnapshot();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: logs the events of this board and its move list to eventLog instead of the shared event log, so that
+    //          boards hosted side by side keep separate logs
+    public void setEventLog(EventLog eventLog) {
+        this.eventLog = eventLog;
+        moveList.setEventLog(eventLog);
     }
 
+    // REQUIRES: pos is a valid position on the chess board
+    // MODIFIES: this
+    // EFFECTS: puts p at pos, replacing any piece already there, and publishes a snapshot; a null p empties the
+    //          square
     public void setPiece(String pos, Piece p) {
-        board.put(pos, p);
+        placePiece(pos, p);
+        publishSnapshot();
+    }
+
+    // REQUIRES: pos is a valid position on the chess board
+    // MODIFIES: this
+    // EFFECTS: puts p at pos like setPiece, but without publishing a snapshot, for setting up a whole position at
+    //          once; setMoveList publishes the finished position
+    public void placePiece(String pos, Piece p) {
+        int sq = Bitboards.squareOf(pos);
+        position.removePiece(sq);
+        board[sq] = p;
+        if (p != null) {
+            boolean atStartPos = p.pieceType == Type.PAWN && ((Pawn) p).getAtStartPos();
+            position.putPiece(sq, Position.pieceCode(p.getSide(), p.pieceType), atStartPos);
+        }
     }
 
     public void setMoveList(MoveList ml) {
         this.moveList = ml;
+        ml.setEventLog(eventLog);
+        countHalfmoveClock();
+        snapshot = PositionSnapshot.of(position, ml.getAllMoves(), gameOver);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: publishes a snapshot of the current position, keeping the move history of the last snapshot
+    private void publishSnapshot() {
+        snapshot = snapshot.withPosition(position, gameOver);
     }
 
     // ===== JSON functionality =====
@@ -352,7 +516,7 @@ public class Board {
     // EFFECTS: returns a JSON object representing this board
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
-        json.put("currentTurn", currentTurn);
+        json.put("currentTurn", getCurrentTurn());
         json.put("gameOver", gameOver);
         json.put("moveList", moveList.toJsonArray());
         json.put("pieces", piecesToJson());
@@ -362,8 +526,7 @@ public class Board {
     // EFFECTS: return representation of pieces on board as a JSON array
     private JSONArray piecesToJson() {
         JSONArray pieces = new JSONArray();
-        for (String c : getAllPositions()) {
-            Piece p = getPiece(c);
+        for (Piece p : board) {
             if (p != null) {
                 pieces.put(p.toJson());
             }
@@ -1,6 +1,5 @@
 package model;
 
-import java.util.Calendar;
 import java.util.Date;
 
 
@@ -9,8 +8,9 @@ import java.util.Date;
  */
 public class Event {
     private static final int HASH_CONSTANT = 13;
-    private Date dateLogged;
-    private String description;
+    private final long millisLogged;
+    private final long nanoTime;
+    private final String description;
 
     /**
      * Creates an event with the given description
@@ -18,7 +18,8 @@ public class Event {
      * @param description  a description of the event
      */
     public Event(String description) {
-        dateLogged = Calendar.getInstance().getTime();
+        millisLogged = System.currentTimeMillis();
+        nanoTime = System.nanoTime();
         this.description = description;
     }
 
@@ -27,7 +28,16 @@ public class Event {
      * @return  the date of the event
      */
     public Date getDate() {
-        return dateLogged;
+        return new Date(millisLogged);
+    }
+
+    /**
+     * Gets the monotonic time at which this event was created, as given
+     * by System.nanoTime(); only meaningful compared to other such times.
+     * @return  the nanosecond timestamp of the event
+     */
+    public long getNanoTime() {
+        return nanoTime;
     }
 
     /**
@@ -50,17 +60,17 @@ public class Event {
 
         Event otherEvent = (Event) other;
 
-        return (this.dateLogged.equals(otherEvent.dateLogged)
+        return (this.millisLogged == otherEvent.millisLogged
                 && this.description.equals(otherEvent.description));
     }
 
     @Override
     public int hashCode() {
-        return (HASH_CONSTANT * dateLogged.hashCode() + description.hashCode());
+        return (HASH_CONSTANT * Long.hashCode(millisLogged) + description.hashCode());
     }
 
     @Override
     public String toString() {
-        return dateLogged.toString() + "\n" + description;
+        return getDate().toString() + "\n" + description;
     }
 }
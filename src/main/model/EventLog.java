@@ -1,60 +1,113 @@
 package model;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Represents a log of chess game events.
- * We use the Singleton Design Pattern to ensure that there is only
- * one EventLog in the system and that the system has global access
- * to the single instance of the EventLog.
+ * We use the Singleton Design Pattern to give the system global access
+ * to a single shared EventLog; code hosting many games at once may
+ * give each game a separate log of its own instead.
+ * The log keeps only the most recent events: it is a fixed-capacity
+ * ring buffer in which a new event overwrites the oldest one, so it
+ * stays constant in memory however long the program runs. Any number
+ * of threads may log and iterate at once without locking.
  */
 public class EventLog implements Iterable<Event> {
+    /** number of most recent events kept by the log */
+    public static final int DEFAULT_CAPACITY = 4096;
     /** the only EventLog in the system (Singleton Design Pattern) */
-    private static EventLog theLog;
-    private Collection<Event> events;
+    private static final EventLog theLog = new EventLog(DEFAULT_CAPACITY);
+    private final AtomicReferenceArray<Slot> slots;
+    private final int mask;
+    /** sequence number the next logged event will get */
+    private final AtomicLong next = new AtomicLong();
+    /** sequence number of the first event logged after the last clear */
+    private final AtomicLong first = new AtomicLong();
 
     /**
-     * Prevent external construction.
-     * (Singleton Design Pattern).
+     * Creates a separate log, e.g. for one of many games hosted at once;
+     * the shared log is obtained through getInstance().
+     * @param capacity  number of events kept; rounded up to a power of two
      */
-    private EventLog() {
-        events = new ArrayList<Event>();
+    public EventLog(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        slots = new AtomicReferenceArray<>(size);
+        mask = size - 1;
     }
 
     /**
-     * Gets instance of EventLog - creates it
-     * if it doesn't already exist.
+     * Gets instance of EventLog.
      * (Singleton Design Pattern)
      * @return  instance of EventLog
      */
     public static EventLog getInstance() {
-        if (theLog == null) {
-            theLog = new EventLog();
-        }
-
         return theLog;
     }
 
     /**
-     * Adds an event to the event log.
+     * Adds an event to the event log, overwriting the oldest event
+     * if the log is full.
      * @param e the event to be added
      */
     public void logEvent(Event e) {
-        events.add(e);
+        long sequence = next.getAndIncrement();
+        slots.set((int) (sequence & mask), new Slot(sequence, e));
     }
 
     /**
      * Clears the event log and logs the event.
      */
     public void clear() {
-        events.clear();
+        first.set(next.get());
         logEvent(new Event("Event log cleared."));
     }
 
+    /**
+     * Returns an iterator over a snapshot of the events in the log,
+     * oldest first. Events overwritten or still being logged while the
+     * snapshot is taken are left out.
+     * @return  iterator over the logged events
+     */
     @Override
     public Iterator<Event> iterator() {
-        return events.iterator();
+        // first is read before next so a concurrent clear() cannot move it past end
+        long cleared = first.get();
+        long end = next.get();
+        long start = Math.min(Math.max(cleared, end - slots.length()), end);
+        List<Event> snapshot = new ArrayList<>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            Slot slot = slots.get((int) (sequence & mask));
+            if (slot != null && slot.sequence == sequence) {
+                snapshot.add(slot.event);
+            }
+        }
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+
+    /**
+     * Gets the number of events the log keeps.
+     * @return  the capacity of the log
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * An event together with the sequence number it was logged under,
+     * so that readers can tell it from an event it has overwritten.
+     */
+    private static final class Slot {
+        private final long sequence;
+        private final Event event;
+
+        private Slot(long sequence, Event event) {
+            this.sequence = sequence;
+            this.event = event;
+        }
     }
 }
@@ -67,6 +67,16 @@ public class Move {
         return actions;
     }
 
+    // EFFECTS: returns true if action is one of the actions resulting from this move
+    public boolean hasAction(Action action) {
+        return actions.contains(action);
+    }
+
+    // EFFECTS: returns true if the move captured a piece or moved a pawn, so no position before it can occur again
+    public boolean isIrreversible() {
+        return fromType == Type.PAWN || (toType != null && toType != Type.EMPTY);
+    }
+
     public Type getFromType() {
         return fromType;
     }
@@ -75,10 +85,18 @@ public class Move {
         return fromSide;
     }
 
+    public String getFromPos() {
+        return fromPos;
+    }
+
     public String getToPos() {
         return toPos;
     }
 
+    public Type getToType() {
+        return toType;
+    }
+
     // ===== json functionality =====
 
     // EFFECTS: returns JSON object representation of this class
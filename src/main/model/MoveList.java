@@ -16,6 +16,18 @@ public class MoveList {
         this.moveList = new ArrayList<>();
     }
 
+    // EFFECTS: creates a move list holding the given moves, oldest first, e.g. moves loaded from a saved game; unlike
+    //          addMove this logs no events, since no piece is moved
+    public MoveList(List<Move> moves) {
+        this.moveList = new ArrayList<>(moves);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: logs the events of this move list to eventLog instead of the shared event log
+    public void setEventLog(EventLog eventLog) {
+        this.eventLog = eventLog;
+    }
+
     // REQUIRES: formattedMove is indeed a real move and formatted correctly
     // MODIFIES: this
     // EFFECTS:  if the most recent pair of moves is not full, then add move to the pair
@@ -34,6 +46,13 @@ public class MoveList {
         this.moveList.add(move);
     }
 
+    // REQUIRES: the move list is not empty
+    // MODIFIES: this
+    // EFFECTS: removes the most recently added move
+    public void removeLastMove() {
+        this.moveList.remove(moveList.size() - 1);
+    }
+
     // ===== getters =====
 
     public List<Move> getAllMoves() {
@@ -0,0 +1,165 @@
+package model;
+
+import model.bitboard.Bitboards;
+import model.bitboard.Fen;
+import model.bitboard.Position;
+import model.enums.Side;
+import model.enums.Type;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Immutable view of a game at one moment: the pieces, the turn player, the pawns that may still advance two squares,
+// the position key, the FEN move counters, the game over flag and the move history. A Board publishes a new snapshot
+// through a volatile field whenever its game changes, so spectators, analysis and saving threads can read a game while
+// it is being played, without locks and without copying the board. A snapshot is compact, twelve bitboards and a few
+// words, and its move history is a persistent list shared with the snapshots taken before it, so taking one costs the
+// same small amount however long the game is.
+public class PositionSnapshot {
+    private static final int PIECE_CODES = 12;
+    private final long[] pieces;
+    private final long pawnStarts;
+    private final int sideToMove;
+    private final long positionKey;
+    private final int halfmoveClock;
+    private final int startPly;
+    private final boolean gameOver;
+    private final History history;
+
+    // EFFECTS: creates a snapshot of position with the given move history and game over flag
+    private PositionSnapshot(Position position, History history, boolean gameOver) {
+        this.pieces = new long[PIECE_CODES];
+        for (int code = 0; code < PIECE_CODES; code++) {
+            pieces[code] = position.getPieces(code);
+        }
+        this.pawnStarts = position.getPawnStarts();
+        this.sideToMove = position.getSideToMove();
+        this.positionKey = position.getHash();
+        this.halfmoveClock = position.getHalfmoveClock();
+        this.startPly = position.getStartPly();
+        this.gameOver = gameOver;
+        this.history = history;
+    }
+
+    // EFFECTS: returns a snapshot of position with the given moves, oldest first, and game over flag
+    static PositionSnapshot of(Position position, List<Move> moves, boolean gameOver) {
+        History history = null;
+        for (Move move : moves) {
+            history = new History(move, history);
+        }
+        return new PositionSnapshot(position, history, gameOver);
+    }
+
+    // EFFECTS: returns a snapshot of position after move was added to the history of this snapshot
+    PositionSnapshot withMove(Position position, Move move, boolean gameOver) {
+        return new PositionSnapshot(position, new History(move, history), gameOver);
+    }
+
+    // REQUIRES: getMoveCount() > 0
+    // EFFECTS: returns a snapshot of position after the last move of this snapshot was taken back
+    PositionSnapshot withoutLastMove(Position position, boolean gameOver) {
+        return new PositionSnapshot(position, history.previous, gameOver);
+    }
+
+    // EFFECTS: returns a snapshot of position with the same move history as this snapshot
+    PositionSnapshot withPosition(Position position, boolean gameOver) {
+        return new PositionSnapshot(position, history, gameOver);
+    }
+
+    // EFFECTS: returns a new position holding the pieces, pawn starts, turn player and move counters of this snapshot
+    public Position toPosition() {
+        Position position = new Position();
+        position.setSideToMove(sideToMove);
+        position.setHalfmoveClock(halfmoveClock);
+        position.setStartPly(startPly);
+        for (int code = 0; code < PIECE_CODES; code++) {
+            for (long bits = pieces[code]; bits != 0; bits &= bits - 1) {
+                int sq = Bitboards.lowestSquare(bits);
+                position.putPiece(sq, code, (pawnStarts & (1L << sq)) != 0);
+            }
+        }
+        return position;
+    }
+
+    // EFFECTS: returns the FEN record of this snapshot, as Board.toFen does for the board it was taken from
+    public String toFen() {
+        Position position = toPosition();
+        return Fen.format(position, halfmoveClock, Fen.fullmoveNumber(position, getMoveCount()));
+    }
+
+    // ===== getters =====
+
+    // EFFECTS: returns the code of the piece on sq (see Position.pieceCode), or Position.EMPTY if there is none
+    public int getPieceCode(int sq) {
+        for (int code = 0; code < PIECE_CODES; code++) {
+            if ((pieces[code] & (1L << sq)) != 0) {
+                return code;
+            }
+        }
+        return Position.EMPTY;
+    }
+
+    // EFFECTS: returns the type of the piece at pos, or Type.EMPTY if there is none or pos is not a square
+    public Type getType(String pos) {
+        int sq = Bitboards.squareOf(pos);
+        int code = sq < 0 ? Position.EMPTY : getPieceCode(sq);
+        return code == Position.EMPTY ? Type.EMPTY : Position.typeEnum(Position.typeOf(code));
+    }
+
+    // EFFECTS: returns the side of the piece at pos, or null if there is none or pos is not a square
+    public Side getSide(String pos) {
+        int sq = Bitboards.squareOf(pos);
+        int code = sq < 0 ? Position.EMPTY : getPieceCode(sq);
+        return code == Position.EMPTY ? null : Position.sideEnum(Position.sideOf(code));
+    }
+
+    // EFFECTS: returns the squares holding a piece with the given code as a bitboard
+    public long getPieces(int code) {
+        return pieces[code];
+    }
+
+    public Side getCurrentTurn() {
+        return Position.sideEnum(sideToMove);
+    }
+
+    public long getPositionKey() {
+        return positionKey;
+    }
+
+    public boolean getGameOver() {
+        return gameOver;
+    }
+
+    public int getMoveCount() {
+        return history == null ? 0 : history.size;
+    }
+
+    // EFFECTS: returns the last move of the history, or null if no move has been made
+    public Move getLastMove() {
+        return history == null ? null : history.move;
+    }
+
+    // EFFECTS: returns the moves of the history, oldest first
+    public List<Move> getMoves() {
+        Move[] moves = new Move[getMoveCount()];
+        for (History h = history; h != null; h = h.previous) {
+            moves[h.size - 1] = h.move;
+        }
+        return Collections.unmodifiableList(Arrays.asList(moves));
+    }
+
+    // A move history as a persistent list, newest move first: each node adds one move to the history before it,
+    // which is shared rather than copied
+    private static class History {
+        private final Move move;
+        private final History previous;
+        private final int size;
+
+        private History(Move move, History previous) {
+            this.move = move;
+            this.previous = previous;
+            this.size = previous == null ? 1 : previous.size + 1;
+        }
+    }
+}
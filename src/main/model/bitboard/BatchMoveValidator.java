@@ -0,0 +1,109 @@
+package model.bitboard;
+
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Checks large batches of (position, move) pairs for legality, e.g. moves read by an import pipeline, and answers
+// with a bitset of the legal ones. Each move is checked on its own with MoveGenerator.isLegal, a mask lookup, rather
+// than by generating every move of the piece. Batches are split with fork-join into chunks of at least threshold
+// moves run across the pool's threads. Each chunk works on a scratch copy of the positions it reads, so the callers'
+// positions are never touched and may be shared between pairs and threads, and consecutive moves of one position
+// reuse the king-safety maps built for the first of them. Each chunk covers whole 64-bit words of the result, so the
+// chunks write their bits without synchronizing.
+public class BatchMoveValidator {
+    public static final int DEFAULT_THRESHOLD = 4096;
+    private static final int MIN_THRESHOLD = 128;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    // EFFECTS: creates a validator running on the common fork-join pool with the default threshold
+    public BatchMoveValidator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    // EFFECTS: creates a validator running on pool that splits batches into chunks of at least threshold moves,
+    //          which is raised to 128 if it is lower
+    public BatchMoveValidator(ForkJoinPool pool, int threshold) {
+        this.pool = pool;
+        this.threshold = Math.max(MIN_THRESHOLD, threshold);
+    }
+
+    // REQUIRES: positions and moves have the same length and no position is null
+    // EFFECTS: returns a bitset whose bit i is set if moves[i], a packed move (see Moves) whose flags are ignored, is
+    //          legal in positions[i]
+    public BitSet validate(Position[] positions, int[] moves) {
+        int[] positionIndices = new int[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            positionIndices[i] = i;
+        }
+        return validate(positions, positionIndices, moves);
+    }
+
+    // REQUIRES: positionIndices and moves have the same length and every index is that of a position that is not null
+    // EFFECTS: returns a bitset whose bit i is set if moves[i], a packed move whose flags are ignored, is legal in
+    //          positions[positionIndices[i]]; pairs of one position are checked fastest when they are adjacent
+    public BitSet validate(Position[] positions, int[] positionIndices, int[] moves) {
+        long[] words = new long[(moves.length + Long.SIZE - 1) / Long.SIZE];
+        ValidateTask task = new ValidateTask(positions, positionIndices, moves, words, 0, moves.length);
+        if (moves.length <= threshold) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    // Checks the moves from index lo to hi, splitting the range in two at a word boundary while it is longer than
+    // threshold
+    private class ValidateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Position[] positions;
+        private final int[] positionIndices;
+        private final int[] moves;
+        private final long[] words;
+        private final int lo;
+        private final int hi;
+
+        // REQUIRES: lo is a multiple of 64
+        private ValidateTask(Position[] positions, int[] positionIndices, int[] moves, long[] words, int lo, int hi) {
+            this.positions = positions;
+            this.positionIndices = positionIndices;
+            this.moves = moves;
+            this.words = words;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        // MODIFIES: words
+        // EFFECTS: sets the bits of the legal moves in the range, splitting it if it is longer than threshold
+        @Override
+        protected void compute() {
+            if (hi - lo <= threshold) {
+                validateRange();
+                return;
+            }
+            int mid = lo + ((hi - lo) / 2 + Long.SIZE - 1 & -Long.SIZE);
+            invokeAll(new ValidateTask(positions, positionIndices, moves, words, lo, mid),
+                    new ValidateTask(positions, positionIndices, moves, words, mid, hi));
+        }
+
+        // MODIFIES: words
+        // EFFECTS: sets the bits of the legal moves in the range, copying each position into a scratch position the
+        //          first time one of its moves is checked in a row
+        private void validateRange() {
+            Position scratch = new Position();
+            int current = -1;
+            for (int i = lo; i < hi; i++) {
+                if (positionIndices[i] != current) {
+                    current = positionIndices[i];
+                    scratch.copyFrom(positions[current]);
+                }
+                if (MoveGenerator.isLegal(scratch, Moves.from(moves[i]), Moves.to(moves[i]))) {
+                    words[i / Long.SIZE] |= 1L << i;
+                }
+            }
+        }
+    }
+}
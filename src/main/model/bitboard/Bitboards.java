@@ -0,0 +1,210 @@
+package model.bitboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Static tables and helpers for 64-bit bitboards. Square indices run from 0 (a1) to 63 (h8), so that bit i of a
+// bitboard is set when square i is part of the set. Sliding pieces use precomputed rays that are cut at the first
+// blocker, which keeps attack generation allocation-free.
+public final class Bitboards {
+    public static final long FILE_A = 0x0101010101010101L;
+    public static final long FILE_H = FILE_A << 7;
+    public static final long RANK_1 = 0xFFL;
+    public static final long RANK_8 = RANK_1 << 56;
+    public static final long LIGHT_SQUARES = 0x55AA55AA55AA55AAL;
+
+    // ray directions; the first four point towards higher square indices, the last four towards lower ones, and
+    // direction d ^ 4 is the opposite of direction d
+    private static final int[] FILE_STEPS = {0, 1, 1, -1, 0, -1, -1, 1};
+    private static final int[] RANK_STEPS = {1, 1, 0, 1, -1, -1, 0, -1};
+    private static final int NORTH = 0;
+    private static final int NORTH_EAST = 1;
+    private static final int EAST = 2;
+    private static final int NORTH_WEST = 3;
+    private static final int SOUTH = 4;
+    private static final int SOUTH_WEST = 5;
+    private static final int WEST = 6;
+    private static final int SOUTH_EAST = 7;
+
+    private static final String[] SQUARE_NAMES = new String[64];
+    private static final List<String> ALL_SQUARE_NAMES;
+    private static final long[][] RAYS = new long[8][64];
+    private static final long[] KNIGHT_ATTACKS = new long[64];
+    private static final long[] KING_ATTACKS = new long[64];
+    private static final long[][] PAWN_ATTACKS = new long[2][64];
+    private static final long[][] BETWEEN = new long[64][64];
+    private static final long[][] LINE = new long[64][64];
+
+    static {
+        for (int sq = 0; sq < 64; sq++) {
+            SQUARE_NAMES[sq] = "" + (char) ('a' + fileOf(sq)) + (char) ('1' + rankOf(sq));
+            for (int dir = 0; dir < 8; dir++) {
+                RAYS[dir][sq] = ray(sq, FILE_STEPS[dir], RANK_STEPS[dir]);
+            }
+            KNIGHT_ATTACKS[sq] = leaps(sq, new int[][] {{1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1},
+                    {-2, 1}, {-1, 2}});
+            KING_ATTACKS[sq] = leaps(sq, new int[][] {{0, 1}, {1, 1}, {1, 0}, {1, -1}, {0, -1}, {-1, -1},
+                    {-1, 0}, {-1, 1}});
+            PAWN_ATTACKS[0][sq] = leaps(sq, new int[][] {{-1, -1}, {1, -1}});
+            PAWN_ATTACKS[1][sq] = leaps(sq, new int[][] {{-1, 1}, {1, 1}});
+        }
+        for (int sq = 0; sq < 64; sq++) {
+            initLines(sq);
+        }
+        ALL_SQUARE_NAMES = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(SQUARE_NAMES)));
+    }
+
+    private Bitboards() {
+    }
+
+    // EFFECTS: returns the set of squares reached by walking from sq in the given step direction, excluding sq
+    private static long ray(int sq, int fileStep, int rankStep) {
+        long result = 0L;
+        int file = fileOf(sq) + fileStep;
+        int rank = rankOf(sq) + rankStep;
+        while (file >= 0 && file < 8 && rank >= 0 && rank < 8) {
+            result |= 1L << (rank * 8 + file);
+            file += fileStep;
+            rank += rankStep;
+        }
+        return result;
+    }
+
+    // EFFECTS: returns the set of squares reached by each single (file, rank) offset from sq that stays on the board
+    private static long leaps(int sq, int[][] offsets) {
+        long result = 0L;
+        for (int[] offset : offsets) {
+            int file = fileOf(sq) + offset[0];
+            int rank = rankOf(sq) + offset[1];
+            if (file >= 0 && file < 8 && rank >= 0 && rank < 8) {
+                result |= 1L << (rank * 8 + file);
+            }
+        }
+        return result;
+    }
+
+    // REQUIRES: RAYS is filled in for every square
+    // EFFECTS: fills in the BETWEEN and LINE entries for every square aligned with sq
+    private static void initLines(int sq) {
+        for (int dir = 0; dir < 8; dir++) {
+            long ray = RAYS[dir][sq];
+            long line = ray | RAYS[dir ^ 4][sq] | (1L << sq);
+            while (ray != 0) {
+                int other = Long.numberOfTrailingZeros(ray);
+                ray &= ray - 1;
+                BETWEEN[sq][other] = RAYS[dir][sq] & ~RAYS[dir][other] & ~(1L << other);
+                LINE[sq][other] = line;
+            }
+        }
+    }
+
+    // EFFECTS: returns the squares attacked along one ray from sq, up to and including the first occupied square
+    private static long slide(int dir, int sq, long occupied) {
+        long attacks = RAYS[dir][sq];
+        long blockers = attacks & occupied;
+        if (blockers != 0) {
+            int blocker = dir < SOUTH ? Long.numberOfTrailingZeros(blockers)
+                    : 63 - Long.numberOfLeadingZeros(blockers);
+            attacks ^= RAYS[dir][blocker];
+        }
+        return attacks;
+    }
+
+    // ===== attack sets =====
+
+    // EFFECTS: returns the squares a rook on sq attacks given the occupied squares
+    public static long rookAttacks(int sq, long occupied) {
+        return slide(NORTH, sq, occupied) | slide(EAST, sq, occupied)
+                | slide(SOUTH, sq, occupied) | slide(WEST, sq, occupied);
+    }
+
+    // EFFECTS: returns the squares a bishop on sq attacks given the occupied squares
+    public static long bishopAttacks(int sq, long occupied) {
+        return slide(NORTH_EAST, sq, occupied) | slide(NORTH_WEST, sq, occupied)
+                | slide(SOUTH_EAST, sq, occupied) | slide(SOUTH_WEST, sq, occupied);
+    }
+
+    // EFFECTS: returns the squares a queen on sq attacks given the occupied squares
+    public static long queenAttacks(int sq, long occupied) {
+        return rookAttacks(sq, occupied) | bishopAttacks(sq, occupied);
+    }
+
+    // EFFECTS: returns the squares a knight on sq attacks
+    public static long knightAttacks(int sq) {
+        return KNIGHT_ATTACKS[sq];
+    }
+
+    // EFFECTS: returns the squares a king on sq attacks
+    public static long kingAttacks(int sq) {
+        return KING_ATTACKS[sq];
+    }
+
+    // REQUIRES: side is Position.WHITE or Position.BLACK
+    // EFFECTS: returns every square attacked diagonally by the given set of pawns of the given side
+    public static long pawnSetAttacks(int side, long pawns) {
+        if (side == Position.WHITE) {
+            return ((pawns << 7) & ~FILE_H) | ((pawns << 9) & ~FILE_A);
+        }
+        return ((pawns >>> 9) & ~FILE_H) | ((pawns >>> 7) & ~FILE_A);
+    }
+
+    // REQUIRES: side is Position.WHITE or Position.BLACK
+    // EFFECTS: returns the squares a pawn of the given side on sq attacks diagonally
+    public static long pawnAttacks(int side, int sq) {
+        return PAWN_ATTACKS[side][sq];
+    }
+
+    // EFFECTS: returns the squares strictly between a and b if they share a rank, file or diagonal, else 0
+    public static long between(int a, int b) {
+        return BETWEEN[a][b];
+    }
+
+    // EFFECTS: returns the whole rank, file or diagonal through a and b (both included) if they are aligned, else 0
+    public static long line(int a, int b) {
+        return LINE[a][b];
+    }
+
+    // ===== squares =====
+
+    // EFFECTS: returns the square index of an algebraic coordinate like "e4", or -1 if it is not on the board
+    public static int squareOf(CharSequence coord) {
+        if (coord == null || coord.length() != 2) {
+            return -1;
+        }
+        int file = coord.charAt(0) - 'a';
+        int rank = coord.charAt(1) - '1';
+        if (file < 0 || file > 7 || rank < 0 || rank > 7) {
+            return -1;
+        }
+        return rank * 8 + file;
+    }
+
+    // REQUIRES: 0 <= sq < 64
+    // EFFECTS: returns the shared algebraic coordinate string of a square, e.g. "e4"
+    public static String nameOf(int sq) {
+        return SQUARE_NAMES[sq];
+    }
+
+    // EFFECTS: returns an unmodifiable list of all 64 coordinates, ordered a1, b1, ..., h8
+    public static List<String> allSquareNames() {
+        return ALL_SQUARE_NAMES;
+    }
+
+    // EFFECTS: returns the file (column) index 0-7 of a square
+    public static int fileOf(int sq) {
+        return sq & 7;
+    }
+
+    // EFFECTS: returns the rank (row) index 0-7 of a square
+    public static int rankOf(int sq) {
+        return sq >>> 3;
+    }
+
+    // REQUIRES: bitboard != 0
+    // EFFECTS: returns the index of the lowest set bit
+    public static int lowestSquare(long bitboard) {
+        return Long.numberOfTrailingZeros(bitboard);
+    }
+}
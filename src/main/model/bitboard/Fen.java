@@ -0,0 +1,173 @@
+package model.bitboard;
+
+// Reads and writes Forsyth-Edwards Notation (FEN), e.g. the starting position
+//     rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1
+// The parser makes a single pass over the characters straight into a Position and creates no objects unless the
+// input is invalid, so it can load large numbers of positions cheaply. This game has no castling, en passant or
+// promotion: the castling and en passant fields are accepted but ignored, a pawn on its starting rank may still
+// advance two squares. The halfmove clock is stored in the Position, and the fullmove number as the plies played
+// before it.
+public final class Fen {
+    public static final String STARTING_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1";
+    // piece letters indexed by piece code: black pieces in lower case, then white pieces in upper case
+    private static final String PIECE_LETTERS = "kqprbnKQPRBN";
+    // more than enough for the fifty-move rule, small enough that parsing cannot overflow
+    private static final int MAX_HALFMOVE_CLOCK = 9999;
+    // longer than any real game, small enough that the plies played before it cannot overflow
+    private static final int MAX_FULLMOVE_NUMBER = 99999;
+
+    private Fen() {
+    }
+
+    // MODIFIES: position
+    // EFFECTS: replaces the contents of position with the position described by fen, with an empty undo stack;
+    //          throws IllegalArgumentException if fen is not a valid FEN record with exactly one king per side, in
+    //          which case the contents of position are unspecified
+    public static void parse(CharSequence fen, Position position) {
+        position.setSideToMove(Position.WHITE);
+        position.clear();
+        int i = parsePlacement(fen, position);
+        i = expect(fen, i, ' ');
+        char side = charAt(fen, i++);
+        if (side != 'w' && side != 'b') {
+            throw invalid(fen, "side to move must be w or b");
+        }
+        position.setSideToMove(side == 'w' ? Position.WHITE : Position.BLACK);
+        i = skipField(fen, expect(fen, i, ' '), "KQkq-");
+        i = skipField(fen, expect(fen, i, ' '), "abcdefgh36-");
+        position.setStartPly(position.getSideToMove() == Position.BLACK ? 1 : 0);
+        if (i < fen.length()) {
+            i = parseHalfmoveClock(fen, expect(fen, i, ' '), position);
+            i = parseFullmoveNumber(fen, expect(fen, i, ' '), position);
+        }
+        if (i != fen.length()) {
+            throw invalid(fen, "unexpected text after the last field");
+        }
+        checkKings(fen, position);
+    }
+
+    // MODIFIES: position
+    // EFFECTS: places the pieces of the piece placement field, which starts fen, and returns the index just past it
+    private static int parsePlacement(CharSequence fen, Position position) {
+        int i = 0;
+        for (int rank = 7; rank >= 0; rank--) {
+            int file = 0;
+            while (file < 8) {
+                char c = charAt(fen, i++);
+                int code = PIECE_LETTERS.indexOf(c);
+                if (c >= '1' && c <= '8') {
+                    file += c - '0';
+                } else if (code >= 0) {
+                    int sq = rank * 8 + file++;
+                    position.putPiece(sq, code, rank == (Position.sideOf(code) == Position.WHITE ? 1 : 6));
+                } else {
+                    throw invalid(fen, "unexpected '" + c + "' in piece placement");
+                }
+            }
+            if (file != 8 || (rank > 0 && charAt(fen, i++) != '/')) {
+                throw invalid(fen, "rank " + (rank + 1) + " does not have 8 squares");
+            }
+        }
+        return i;
+    }
+
+    // MODIFIES: position
+    // EFFECTS: sets the halfmove clock of position from the field starting at index i and returns the index just
+    //          past it; values above MAX_HALFMOVE_CLOCK are stored as MAX_HALFMOVE_CLOCK
+    private static int parseHalfmoveClock(CharSequence fen, int i, Position position) {
+        int end = skipField(fen, i, "0123456789");
+        int clock = 0;
+        for (int j = i; j < end; j++) {
+            clock = Math.min(MAX_HALFMOVE_CLOCK, clock * 10 + fen.charAt(j) - '0');
+        }
+        position.setHalfmoveClock(clock);
+        return end;
+    }
+
+    // MODIFIES: position
+    // EFFECTS: sets the plies played before position from the fullmove number field starting at index i, which
+    //          counts from 1 and goes up after each Black move, and returns the index just past it; 0 is read as 1
+    //          and values above MAX_FULLMOVE_NUMBER as MAX_FULLMOVE_NUMBER
+    private static int parseFullmoveNumber(CharSequence fen, int i, Position position) {
+        int end = skipField(fen, i, "0123456789");
+        int number = 0;
+        for (int j = i; j < end; j++) {
+            number = Math.min(MAX_FULLMOVE_NUMBER, number * 10 + fen.charAt(j) - '0');
+        }
+        position.setStartPly(2 * (Math.max(1, number) - 1) + position.getStartPly());
+        return end;
+    }
+
+    // EFFECTS: returns the fullmove number of the position reached plies after position's start ply
+    public static int fullmoveNumber(Position position, int plies) {
+        return (position.getStartPly() + plies) / 2 + 1;
+    }
+
+    // EFFECTS: returns the index just past a non-empty run of the allowed characters starting at index i
+    private static int skipField(CharSequence fen, int i, String allowed) {
+        int start = i;
+        while (i < fen.length() && allowed.indexOf(fen.charAt(i)) >= 0) {
+            i++;
+        }
+        if (i == start || (i < fen.length() && fen.charAt(i) != ' ')) {
+            throw invalid(fen, "malformed field at index " + start);
+        }
+        return i;
+    }
+
+    // EFFECTS: returns i + 1 if the character at index i is c, otherwise throws IllegalArgumentException
+    private static int expect(CharSequence fen, int i, char c) {
+        if (charAt(fen, i) != c) {
+            throw invalid(fen, "expected '" + c + "' at index " + i);
+        }
+        return i + 1;
+    }
+
+    // EFFECTS: returns the character at index i, throwing IllegalArgumentException if fen ends before it
+    private static char charAt(CharSequence fen, int i) {
+        if (i >= fen.length()) {
+            throw invalid(fen, "ends too early");
+        }
+        return fen.charAt(i);
+    }
+
+    // EFFECTS: throws IllegalArgumentException unless each side has exactly one king
+    private static void checkKings(CharSequence fen, Position position) {
+        if (Long.bitCount(position.getPieces(Position.WHITE * 6 + Position.KING)) != 1
+                || Long.bitCount(position.getPieces(Position.BLACK * 6 + Position.KING)) != 1) {
+            throw invalid(fen, "each side needs exactly one king");
+        }
+    }
+
+    // EFFECTS: returns the exception reporting an invalid FEN record
+    private static IllegalArgumentException invalid(CharSequence fen, String reason) {
+        return new IllegalArgumentException("Invalid FEN \"" + fen + "\": " + reason);
+    }
+
+    // REQUIRES: halfmoveClock >= 0 and fullmoveNumber >= 1
+    // EFFECTS: returns the FEN record of the position with the given move counters
+    public static String format(Position position, int halfmoveClock, int fullmoveNumber) {
+        StringBuilder fen = new StringBuilder(90);
+        for (int rank = 7; rank >= 0; rank--) {
+            int empty = 0;
+            for (int file = 0; file < 8; file++) {
+                int code = position.getPieceCode(rank * 8 + file);
+                if (code == Position.EMPTY) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) {
+                    fen.append(empty);
+                    empty = 0;
+                }
+                fen.append(PIECE_LETTERS.charAt(code));
+            }
+            if (empty > 0) {
+                fen.append(empty);
+            }
+            fen.append(rank > 0 ? '/' : ' ');
+        }
+        fen.append(position.getSideToMove() == Position.WHITE ? 'w' : 'b').append(" - - ");
+        return fen.append(halfmoveClock).append(' ').append(fullmoveNumber).toString();
+    }
+}
@@ -0,0 +1,34 @@
+package model.bitboard;
+
+import model.enums.GameState;
+
+// Decides whether a game has ended and how, from the counters a Position keeps as it is played: checkmate and
+// stalemate stop at the first legal move found, insufficient material is a few bitboard tests, threefold repetition
+// compares the hashes on the undo stack since the last capture or pawn move, and the fifty-move rule reads the
+// halfmove clock. In a typical position the first piece tried has a move, so the check costs about the same whatever
+// the position. Draws by repetition and by the fifty-move rule end the game as soon as they occur.
+public final class GameTermination {
+    // fifty moves by each side
+    public static final int FIFTY_MOVE_PLIES = 100;
+
+    private GameTermination() {
+    }
+
+    // EFFECTS: returns how the game in position has ended, or ONGOING if it has not; a checkmate or stalemate takes
+    //          precedence over a draw by the other rules
+    public static GameState classify(Position position) {
+        if (!MoveGenerator.hasLegalMove(position)) {
+            return position.isInCheck(position.getSideToMove()) ? GameState.CHECKMATE : GameState.STALEMATE;
+        }
+        if (position.hasInsufficientMaterial()) {
+            return GameState.INSUFFICIENT_MATERIAL;
+        }
+        if (position.countRepetitions() >= 2) {
+            return GameState.THREEFOLD_REPETITION;
+        }
+        if (position.getHalfmoveClock() >= FIFTY_MOVE_PLIES) {
+            return GameState.FIFTY_MOVE_RULE;
+        }
+        return GameState.ONGOING;
+    }
+}
@@ -0,0 +1,85 @@
+package model.bitboard;
+
+// Legal move generator over a bitboard Position. Moves are written as packed ints (see Moves) into a buffer supplied
+// by the caller and the number of moves written is returned, so generating moves does not allocate. Each piece's
+// pseudo-legal targets are intersected with the position's legal mask, so no move is tried out on the board.
+public final class MoveGenerator {
+    // more than the number of legal moves in any position reachable under this game's rules
+    public static final int MAX_MOVES = 256;
+    // more than the number of moves a single piece (a centralized queen) can have
+    public static final int MAX_PIECE_MOVES = 32;
+
+    private MoveGenerator() {
+    }
+
+    // REQUIRES: moves has room for MAX_MOVES entries
+    // MODIFIES: moves
+    // EFFECTS: writes all legal moves of the side to move into moves, starting at index 0, and returns their number
+    public static int generateLegalMoves(Position position, int[] moves) {
+        long own = position.getOccupancy(position.getSideToMove());
+        int count = 0;
+        while (own != 0) {
+            count = generateLegalMoves(position, Bitboards.lowestSquare(own), moves, count);
+            own &= own - 1;
+        }
+        return count;
+    }
+
+    // EFFECTS: returns true if the side to move has a legal move, stopping at the first piece found to have one
+    //          instead of generating every move
+    public static boolean hasLegalMove(Position position) {
+        for (long own = position.getOccupancy(position.getSideToMove()); own != 0; own &= own - 1) {
+            int from = Bitboards.lowestSquare(own);
+            if ((position.getTargets(from, position.getPieceCode(from)) & position.getLegalMask(from)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // REQUIRES: moves has room for MAX_PIECE_MOVES entries after index count
+    // MODIFIES: moves
+    // EFFECTS: appends the legal moves of the piece on from (of either side) to moves, starting at index count, and
+    //          returns the new number of moves; appends nothing if from is empty
+    public static int generateLegalMoves(Position position, int from, int[] moves, int count) {
+        int code = position.getPieceCode(from);
+        if (code == Position.EMPTY) {
+            return count;
+        }
+        boolean pawn = Position.typeOf(code) == Position.PAWN;
+        long targets = position.getTargets(from, code) & position.getLegalMask(from);
+        while (targets != 0) {
+            int to = Bitboards.lowestSquare(targets);
+            targets &= targets - 1;
+            moves[count++] = Moves.encode(from, to, flagsFor(position, from, to, pawn));
+        }
+        return count;
+    }
+
+    // REQUIRES: from and to are squares, 0 to 63
+    // EFFECTS: returns true if moving the piece on from to to is a legal move for the side to move, checking just that
+    //          move against the piece's targets and legal mask instead of generating every move of the piece
+    public static boolean isLegal(Position position, int from, int to) {
+        int code = position.getPieceCode(from);
+        if (code == Position.EMPTY || Position.sideOf(code) != position.getSideToMove()) {
+            return false;
+        }
+        long bit = 1L << to;
+        return (position.getTargets(from, code) & bit) != 0 && (position.getLegalMask(from) & bit) != 0;
+    }
+
+    // REQUIRES: there is a piece on from
+    // EFFECTS: returns the packed move of the piece on from to to, with its capture / double push flags set
+    public static int encodeMove(Position position, int from, int to) {
+        boolean pawn = Position.typeOf(position.getPieceCode(from)) == Position.PAWN;
+        return Moves.encode(from, to, flagsFor(position, from, to, pawn));
+    }
+
+    // EFFECTS: returns the flags of the move from from to to in the given position
+    private static int flagsFor(Position position, int from, int to, boolean pawn) {
+        if (position.getPieceCode(to) != Position.EMPTY) {
+            return Moves.CAPTURE;
+        }
+        return pawn && (to - from == 16 || from - to == 16) ? Moves.DOUBLE_PUSH : Moves.QUIET;
+    }
+}
@@ -0,0 +1,44 @@
+package model.bitboard;
+
+// Helpers for moves packed into a single int: bits 0-5 hold the origin square, bits 6-11 the destination square and
+// bits 12-15 the move flags. Only the low 16 bits are used, so a move also fits in a short or char.
+public final class Moves {
+    public static final int NONE = 0;
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PUSH = 1;
+    public static final int CAPTURE = 4;
+
+    private Moves() {
+    }
+
+    // REQUIRES: 0 <= from, to < 64 and flags is a combination of the flag constants
+    // EFFECTS: returns the packed move
+    public static int encode(int from, int to, int flags) {
+        return from | (to << 6) | (flags << 12);
+    }
+
+    // EFFECTS: returns the origin square of a packed move
+    public static int from(int move) {
+        return move & 0x3F;
+    }
+
+    // EFFECTS: returns the destination square of a packed move
+    public static int to(int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    // EFFECTS: returns the flags of a packed move
+    public static int flags(int move) {
+        return (move >>> 12) & 0xF;
+    }
+
+    // EFFECTS: returns true if the packed move captures a piece
+    public static boolean isCapture(int move) {
+        return (flags(move) & CAPTURE) != 0;
+    }
+
+    // EFFECTS: returns the move in coordinate notation, e.g. "e2e4"
+    public static String format(int move) {
+        return Bitboards.nameOf(from(move)) + Bitboards.nameOf(to(move));
+    }
+}
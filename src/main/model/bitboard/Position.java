@@ -0,0 +1,574 @@
+package model.bitboard;
+
+import model.enums.Side;
+import model.enums.Type;
+
+import java.util.Arrays;
+
+// Bitboard representation of a chess position: one 64-bit set per side and piece type (twelve in total), a mailbox of
+// piece codes for constant-time square lookups, the side to move, and a flag word marking pawns that may still make
+// their two-square first move. Piece codes are side * 6 + type, using the ordinals of Side and Type.
+// For each side the position also keeps king-safety maps (squares attacked by the enemy, pinned pieces, checking
+// pieces and check evasion squares). They are invalidated whenever a piece is placed, removed or moved and rebuilt
+// from the bitboards the first time they are needed, so checking a move's legality is a mask lookup.
+// A Zobrist hash of the position (see Zobrist) and the material and piece-square sums of the tapered evaluation (see
+// PieceSquareTables) are kept up to date by every change.
+// Moves made with makeMove are recorded on a compact undo stack (the move, the captured piece code, the pawn start
+// flags, the hash and the halfmove clock before the move), so unmakeMove can restore the previous position exactly
+// without copying. The halfmove clock counts the moves since the last capture or pawn move, and the hashes on the
+// undo stack since then are the only earlier positions that can recur, so the fifty-move rule and repetitions are
+// checked without replaying the game.
+public class Position {
+    public static final int BLACK = Side.BLACK.ordinal();
+    public static final int WHITE = Side.WHITE.ordinal();
+    public static final int KING = Type.KING.ordinal();
+    public static final int QUEEN = Type.QUEEN.ordinal();
+    public static final int PAWN = Type.PAWN.ordinal();
+    public static final int ROOK = Type.ROOK.ordinal();
+    public static final int BISHOP = Type.BISHOP.ordinal();
+    public static final int KNIGHT = Type.KNIGHT.ordinal();
+    public static final int EMPTY = -1;
+
+    private static final Side[] SIDES = Side.values();
+    private static final Type[] TYPES = Type.values();
+
+    private final long[] pieces = new long[12];
+    private final long[] occupancy = new long[2];
+    private final byte[] mailbox = new byte[64];
+    private long pawnStarts;
+    private int sideToMove;
+    private long hash;
+    private int halfmoveClock;
+    // plies played in the game before the position at the bottom of the undo stack, e.g. from a FEN fullmove number
+    private int startPly;
+    // tapered evaluation terms summed from PieceSquareTables as pieces are put and removed
+    private int midgame;
+    private int endgame;
+    private int phase;
+
+    // king-safety maps; index is the side whose king is being protected, except attackedBy which is the attacker
+    private final long[] attackedBy = new long[2];
+    private final long[] pinned = new long[2];
+    private final long[] checkers = new long[2];
+    private final long[] evasions = new long[2];
+    private int validMaps;
+
+    private static final int INITIAL_UNDO_CAPACITY = 64;
+    private int[] undoMoves = new int[INITIAL_UNDO_CAPACITY];
+    private byte[] undoCaptured = new byte[INITIAL_UNDO_CAPACITY];
+    private long[] undoPawnStarts = new long[INITIAL_UNDO_CAPACITY];
+    private long[] undoHashes = new long[INITIAL_UNDO_CAPACITY];
+    private int[] undoHalfmoveClocks = new int[INITIAL_UNDO_CAPACITY];
+    private int undoDepth;
+
+    // EFFECTS: creates an empty position with White to move
+    public Position() {
+        Arrays.fill(mailbox, (byte) EMPTY);
+        this.sideToMove = WHITE;
+    }
+
+    // EFFECTS: creates an independent copy of the given position
+    public Position(Position other) {
+        copyFrom(other);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: overwrites this position with the contents of other without allocating
+    public void copyFrom(Position other) {
+        System.arraycopy(other.pieces, 0, pieces, 0, pieces.length);
+        System.arraycopy(other.occupancy, 0, occupancy, 0, occupancy.length);
+        System.arraycopy(other.mailbox, 0, mailbox, 0, mailbox.length);
+        this.pawnStarts = other.pawnStarts;
+        this.sideToMove = other.sideToMove;
+        this.hash = other.hash;
+        this.halfmoveClock = other.halfmoveClock;
+        this.startPly = other.startPly;
+        this.midgame = other.midgame;
+        this.endgame = other.endgame;
+        this.phase = other.phase;
+        this.validMaps = 0;
+        ensureUndoCapacity(other.undoDepth);
+        System.arraycopy(other.undoMoves, 0, undoMoves, 0, other.undoDepth);
+        System.arraycopy(other.undoCaptured, 0, undoCaptured, 0, other.undoDepth);
+        System.arraycopy(other.undoPawnStarts, 0, undoPawnStarts, 0, other.undoDepth);
+        System.arraycopy(other.undoHashes, 0, undoHashes, 0, other.undoDepth);
+        System.arraycopy(other.undoHalfmoveClocks, 0, undoHalfmoveClocks, 0, other.undoDepth);
+        this.undoDepth = other.undoDepth;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: grows the undo stack so that it holds at least capacity entries
+    private void ensureUndoCapacity(int capacity) {
+        if (capacity > undoMoves.length) {
+            int newCapacity = Math.max(capacity, undoMoves.length * 2);
+            undoMoves = Arrays.copyOf(undoMoves, newCapacity);
+            undoCaptured = Arrays.copyOf(undoCaptured, newCapacity);
+            undoPawnStarts = Arrays.copyOf(undoPawnStarts, newCapacity);
+            undoHashes = Arrays.copyOf(undoHashes, newCapacity);
+            undoHalfmoveClocks = Arrays.copyOf(undoHalfmoveClocks, newCapacity);
+        }
+    }
+
+    // ===== piece codes =====
+
+    // EFFECTS: returns the piece code for a piece of the given side and type
+    public static int pieceCode(Side side, Type type) {
+        return side.ordinal() * 6 + type.ordinal();
+    }
+
+    // REQUIRES: code is a valid piece code
+    // EFFECTS: returns the side index (BLACK or WHITE) of a piece code
+    public static int sideOf(int code) {
+        return code / 6;
+    }
+
+    // REQUIRES: code is a valid piece code
+    // EFFECTS: returns the type index (KING, QUEEN, ...) of a piece code
+    public static int typeOf(int code) {
+        return code % 6;
+    }
+
+    // EFFECTS: returns the side enum matching a side index
+    public static Side sideEnum(int side) {
+        return SIDES[side];
+    }
+
+    // EFFECTS: returns the type enum matching a type index
+    public static Type typeEnum(int type) {
+        return TYPES[type];
+    }
+
+    // ===== modifiers =====
+
+    // REQUIRES: sq is empty, code is a valid piece code
+    // MODIFIES: this
+    // EFFECTS: places a piece on sq; atStartPos marks a pawn that may still advance two squares
+    public void putPiece(int sq, int code, boolean atStartPos) {
+        long bit = 1L << sq;
+        pieces[code] |= bit;
+        occupancy[sideOf(code)] |= bit;
+        mailbox[sq] = (byte) code;
+        hash ^= Zobrist.piece(code, sq);
+        midgame += PieceSquareTables.midgame(code, sq);
+        endgame += PieceSquareTables.endgame(code, sq);
+        phase += PieceSquareTables.phase(code);
+        if (atStartPos && typeOf(code) == PAWN) {
+            pawnStarts |= bit;
+            hash ^= Zobrist.pawnStart(sq);
+        }
+        validMaps = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes whatever piece is on sq and returns its code, or EMPTY if there was none
+    public int removePiece(int sq) {
+        int code = mailbox[sq];
+        if (code != EMPTY) {
+            long bit = 1L << sq;
+            pieces[code] &= ~bit;
+            occupancy[sideOf(code)] &= ~bit;
+            mailbox[sq] = (byte) EMPTY;
+            hash ^= Zobrist.piece(code, sq);
+            midgame -= PieceSquareTables.midgame(code, sq);
+            endgame -= PieceSquareTables.endgame(code, sq);
+            phase -= PieceSquareTables.phase(code);
+            if ((pawnStarts & bit) != 0) {
+                pawnStarts &= ~bit;
+                hash ^= Zobrist.pawnStart(sq);
+            }
+            validMaps = 0;
+        }
+        return code;
+    }
+
+    // REQUIRES: there is a piece on from
+    // MODIFIES: this
+    // EFFECTS: moves the piece on from to to, capturing whatever is on to; a moved pawn loses its two-square option
+    public void movePiece(int from, int to) {
+        removePiece(to);
+        int code = removePiece(from);
+        putPiece(to, code, false);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes all pieces, keeping the side to move
+    public void clear() {
+        Arrays.fill(pieces, 0L);
+        Arrays.fill(occupancy, 0L);
+        Arrays.fill(mailbox, (byte) EMPTY);
+        pawnStarts = 0L;
+        hash = sideToMove == BLACK ? Zobrist.SIDE : 0L;
+        halfmoveClock = 0;
+        startPly = 0;
+        midgame = 0;
+        endgame = 0;
+        phase = 0;
+        validMaps = 0;
+        undoDepth = 0;
+    }
+
+    // REQUIRES: there is a piece on the origin square of move
+    // MODIFIES: this
+    // EFFECTS: plays a packed move, passes the turn to the other side and records how to undo it
+    public void makeMove(int move) {
+        ensureUndoCapacity(undoDepth + 1);
+        int to = Moves.to(move);
+        undoMoves[undoDepth] = move;
+        undoCaptured[undoDepth] = mailbox[to];
+        undoPawnStarts[undoDepth] = pawnStarts;
+        undoHashes[undoDepth] = hash;
+        undoHalfmoveClocks[undoDepth] = halfmoveClock;
+        boolean irreversible = mailbox[to] != EMPTY || typeOf(mailbox[Moves.from(move)]) == PAWN;
+        halfmoveClock = irreversible ? 0 : halfmoveClock + 1;
+        undoDepth++;
+        movePiece(Moves.from(move), to);
+        sideToMove = 1 - sideToMove;
+        hash ^= Zobrist.SIDE;
+    }
+
+    // REQUIRES: getUndoDepth() > 0
+    // MODIFIES: this
+    // EFFECTS: takes back the last move made with makeMove and returns it, restoring the captured piece, the pawn
+    //          start flags, the side to move, the hash and the halfmove clock
+    public int unmakeMove() {
+        undoDepth--;
+        int move = undoMoves[undoDepth];
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        int code = removePiece(to);
+        putPiece(from, code, false);
+        if (undoCaptured[undoDepth] != EMPTY) {
+            putPiece(to, undoCaptured[undoDepth], false);
+        }
+        pawnStarts = undoPawnStarts[undoDepth];
+        hash = undoHashes[undoDepth];
+        halfmoveClock = undoHalfmoveClocks[undoDepth];
+        sideToMove = 1 - sideToMove;
+        return move;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the side to move, keeping the hash up to date
+    public void setSideToMove(int side) {
+        if (side != sideToMove) {
+            hash ^= Zobrist.SIDE;
+        }
+        this.sideToMove = side;
+    }
+
+    // REQUIRES: clock >= 0
+    // MODIFIES: this
+    // EFFECTS: sets the number of moves since the last capture or pawn move, e.g. as read from a FEN record
+    public void setHalfmoveClock(int clock) {
+        this.halfmoveClock = clock;
+    }
+
+    // REQUIRES: ply >= 0
+    // MODIFIES: this
+    // EFFECTS: sets the number of plies played in the game before this position, e.g. as read from a FEN record
+    public void setStartPly(int ply) {
+        this.startPly = ply;
+    }
+
+    // EFFECTS: returns the Zobrist hash of this position computed from scratch, ignoring the incrementally kept one
+    public long computeHash() {
+        long result = sideToMove == BLACK ? Zobrist.SIDE : 0L;
+        for (long occupied = getOccupied(); occupied != 0; occupied &= occupied - 1) {
+            int sq = Bitboards.lowestSquare(occupied);
+            result ^= Zobrist.piece(mailbox[sq], sq);
+        }
+        for (long starts = pawnStarts; starts != 0; starts &= starts - 1) {
+            result ^= Zobrist.pawnStart(Bitboards.lowestSquare(starts));
+        }
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the incrementally kept hash with one computed from scratch
+    public void refreshHash() {
+        hash = computeHash();
+    }
+
+    // ===== game end =====
+
+    // EFFECTS: returns how many times the current position occurred before among the positions on the undo stack
+    //          since the last capture or pawn move; only positions with the same side to move are compared
+    public int countRepetitions() {
+        int count = 0;
+        int oldest = Math.max(0, undoDepth - halfmoveClock);
+        for (int i = undoDepth - 2; i >= oldest; i -= 2) {
+            if (undoHashes[i] == hash) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // EFFECTS: returns true if neither side has the material to checkmate: no pawns, rooks or queens, and either at
+    //          most one knight or bishop in all or only bishops, all on squares of one colour
+    public boolean hasInsufficientMaterial() {
+        long heavy = 0;
+        long knights = 0;
+        long bishops = 0;
+        for (int side = BLACK; side <= WHITE; side++) {
+            heavy |= pieces[side * 6 + PAWN] | pieces[side * 6 + ROOK] | pieces[side * 6 + QUEEN];
+            knights |= pieces[side * 6 + KNIGHT];
+            bishops |= pieces[side * 6 + BISHOP];
+        }
+        if (heavy != 0) {
+            return false;
+        }
+        if (Long.bitCount(knights | bishops) <= 1) {
+            return true;
+        }
+        return knights == 0 && ((bishops & Bitboards.LIGHT_SQUARES) == 0 || (bishops & ~Bitboards.LIGHT_SQUARES) == 0);
+    }
+
+    // ===== attacks =====
+
+    // EFFECTS: returns every piece of either side that attacks sq, given the occupied squares
+    public long attackersTo(int sq, long occupied) {
+        long bishopsQueens = pieces[BISHOP] | pieces[QUEEN] | pieces[6 + BISHOP] | pieces[6 + QUEEN];
+        long rooksQueens = pieces[ROOK] | pieces[QUEEN] | pieces[6 + ROOK] | pieces[6 + QUEEN];
+        return (Bitboards.pawnAttacks(BLACK, sq) & pieces[6 + PAWN])
+                | (Bitboards.pawnAttacks(WHITE, sq) & pieces[PAWN])
+                | (Bitboards.knightAttacks(sq) & (pieces[KNIGHT] | pieces[6 + KNIGHT]))
+                | (Bitboards.kingAttacks(sq) & (pieces[KING] | pieces[6 + KING]))
+                | (Bitboards.bishopAttacks(sq, occupied) & bishopsQueens)
+                | (Bitboards.rookAttacks(sq, occupied) & rooksQueens);
+    }
+
+    // EFFECTS: returns true if any piece of bySide attacks sq
+    public boolean isSquareAttacked(int sq, int bySide) {
+        return (attackersTo(sq, getOccupied()) & occupancy[bySide]) != 0;
+    }
+
+    // EFFECTS: returns the squares attacked by bySide, looking through the opposing king so that a king cannot step
+    //          back along the line of a slider that attacks it
+    public long getAttackedSquares(int bySide) {
+        refreshKingSafety(1 - bySide);
+        return attackedBy[bySide];
+    }
+
+    // EFFECTS: returns the pieces of side that are pinned against their own king
+    public long getPinned(int side) {
+        refreshKingSafety(side);
+        return pinned[side];
+    }
+
+    // EFFECTS: returns the enemy pieces that attack the king of side
+    public long getCheckers(int side) {
+        refreshKingSafety(side);
+        return checkers[side];
+    }
+
+    // EFFECTS: returns true if the king of the given side is attacked; false if that side has no king
+    public boolean isInCheck(int side) {
+        return getCheckers(side) != 0;
+    }
+
+    // REQUIRES: there is a piece on from
+    // EFFECTS: returns true if moving the piece on from to to would leave its own king attacked
+    public boolean leavesKingAttacked(int from, int to) {
+        return (getLegalMask(from) & (1L << to)) == 0;
+    }
+
+    // REQUIRES: there is a piece on from
+    // EFFECTS: returns the squares the piece on from may move to without leaving its own king attacked: for a king,
+    //          the squares the enemy does not attack; for any other piece, the check evasion squares, further
+    //          limited to the line through its king if the piece is pinned
+    public long getLegalMask(int from) {
+        int code = mailbox[from];
+        int side = sideOf(code);
+        refreshKingSafety(side);
+        if (typeOf(code) == KING) {
+            return ~attackedBy[1 - side];
+        }
+        long mask = evasions[side];
+        if ((pinned[side] & (1L << from)) != 0) {
+            mask &= Bitboards.line(Bitboards.lowestSquare(pieces[side * 6 + KING]), from);
+        }
+        return mask;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: rebuilds the king-safety maps of the given side if a change to the board has invalidated them
+    private void refreshKingSafety(int side) {
+        if ((validMaps & (1 << side)) != 0) {
+            return;
+        }
+        int enemy = 1 - side;
+        long king = pieces[side * 6 + KING];
+        long occupied = getOccupied();
+        attackedBy[enemy] = attacksOf(enemy, occupied & ~king);
+        if (king == 0) {
+            checkers[side] = 0L;
+            pinned[side] = 0L;
+            evasions[side] = -1L;
+        } else {
+            int kingSq = Bitboards.lowestSquare(king);
+            checkers[side] = attackersTo(kingSq, occupied) & occupancy[enemy];
+            pinned[side] = pinnedPieces(side, kingSq, occupied);
+            evasions[side] = evasionSquares(kingSq, checkers[side]);
+        }
+        validMaps |= 1 << side;
+    }
+
+    // EFFECTS: returns every square attacked by the pieces of side, given the occupied squares
+    private long attacksOf(int side, long occupied) {
+        int base = side * 6;
+        long attacks = Bitboards.pawnSetAttacks(side, pieces[base + PAWN]);
+        for (long b = pieces[base + KNIGHT]; b != 0; b &= b - 1) {
+            attacks |= Bitboards.knightAttacks(Bitboards.lowestSquare(b));
+        }
+        for (long b = pieces[base + BISHOP] | pieces[base + QUEEN]; b != 0; b &= b - 1) {
+            attacks |= Bitboards.bishopAttacks(Bitboards.lowestSquare(b), occupied);
+        }
+        for (long b = pieces[base + ROOK] | pieces[base + QUEEN]; b != 0; b &= b - 1) {
+            attacks |= Bitboards.rookAttacks(Bitboards.lowestSquare(b), occupied);
+        }
+        long king = pieces[base + KING];
+        if (king != 0) {
+            attacks |= Bitboards.kingAttacks(Bitboards.lowestSquare(king));
+        }
+        return attacks;
+    }
+
+    // EFFECTS: returns the pieces of side that are the only piece between their king on kingSq and an enemy slider
+    private long pinnedPieces(int side, int kingSq, long occupied) {
+        int enemyBase = (1 - side) * 6;
+        long enemies = occupancy[1 - side];
+        long snipers = (Bitboards.rookAttacks(kingSq, enemies) & (pieces[enemyBase + ROOK] | pieces[enemyBase + QUEEN]))
+                | (Bitboards.bishopAttacks(kingSq, enemies)
+                & (pieces[enemyBase + BISHOP] | pieces[enemyBase + QUEEN]));
+        long result = 0L;
+        for (; snipers != 0; snipers &= snipers - 1) {
+            long blockers = Bitboards.between(kingSq, Bitboards.lowestSquare(snipers)) & occupied;
+            if (blockers != 0 && (blockers & (blockers - 1)) == 0) {
+                result |= blockers & occupancy[side];
+            }
+        }
+        return result;
+    }
+
+    // EFFECTS: returns the squares a non-king move must land on to deal with the given checkers: anywhere when there
+    //          are none, the checker or a square between it and the king when there is one, nowhere when there are two
+    private static long evasionSquares(int kingSq, long checkers) {
+        if (checkers == 0) {
+            return -1L;
+        }
+        if ((checkers & (checkers - 1)) != 0) {
+            return 0L;
+        }
+        return checkers | Bitboards.between(kingSq, Bitboards.lowestSquare(checkers));
+    }
+
+    // REQUIRES: code is a valid piece code
+    // EFFECTS: returns the squares a piece with the given code standing on sq could move to, ignoring check but
+    //          excluding squares held by its own side
+    public long getTargets(int sq, int code) {
+        int side = sideOf(code);
+        long occupied = getOccupied();
+        long targets;
+        switch (TYPES[typeOf(code)]) {
+            case PAWN:
+                targets = pawnTargets(sq, side, occupied);
+                break;
+            case KNIGHT:
+                targets = Bitboards.knightAttacks(sq);
+                break;
+            case BISHOP:
+                targets = Bitboards.bishopAttacks(sq, occupied);
+                break;
+            case ROOK:
+                targets = Bitboards.rookAttacks(sq, occupied);
+                break;
+            case QUEEN:
+                targets = Bitboards.queenAttacks(sq, occupied);
+                break;
+            default:
+                targets = Bitboards.kingAttacks(sq);
+        }
+        return targets & ~occupancy[side];
+    }
+
+    // EFFECTS: returns the squares a pawn of side on sq can reach: forward pushes onto empty squares (two squares
+    //          while it keeps its starting status) and diagonal captures of enemy pieces
+    private long pawnTargets(int sq, int side, long occupied) {
+        long bit = 1L << sq;
+        long empty = ~occupied;
+        long single = (side == WHITE ? bit << 8 : bit >>> 8) & empty;
+        long targets = single | (Bitboards.pawnAttacks(side, sq) & occupancy[1 - side]);
+        if ((pawnStarts & bit) != 0) {
+            targets |= (side == WHITE ? single << 8 : single >>> 8) & empty;
+        }
+        return targets;
+    }
+
+    // ===== getters =====
+
+    // EFFECTS: returns the code of the piece on sq, or EMPTY
+    public int getPieceCode(int sq) {
+        return mailbox[sq];
+    }
+
+    // EFFECTS: returns the squares holding pieces with the given code
+    public long getPieces(int code) {
+        return pieces[code];
+    }
+
+    // EFFECTS: returns the squares holding pieces of the given side
+    public long getOccupancy(int side) {
+        return occupancy[side];
+    }
+
+    // EFFECTS: returns all occupied squares
+    public long getOccupied() {
+        return occupancy[BLACK] | occupancy[WHITE];
+    }
+
+    // EFFECTS: returns the squares holding pawns that may still advance two squares
+    public long getPawnStarts() {
+        return pawnStarts;
+    }
+
+    public int getSideToMove() {
+        return sideToMove;
+    }
+
+    // EFFECTS: returns the number of moves since the last capture or pawn move
+    public int getHalfmoveClock() {
+        return halfmoveClock;
+    }
+
+    // EFFECTS: returns the number of plies played in the game before the position at the bottom of the undo stack
+    public int getStartPly() {
+        return startPly;
+    }
+
+    // EFFECTS: returns the Zobrist hash of this position
+    public long getHash() {
+        return hash;
+    }
+
+    // EFFECTS: returns the sum of the middlegame piece-square values of all pieces, from White's point of view
+    public int getMidgame() {
+        return midgame;
+    }
+
+    // EFFECTS: returns the sum of the endgame piece-square values of all pieces, from White's point of view
+    public int getEndgame() {
+        return endgame;
+    }
+
+    // EFFECTS: returns the game phase, PieceSquareTables.MAX_PHASE or more with all pieces on the board down to 0
+    //          with only kings and pawns
+    public int getPhase() {
+        return phase;
+    }
+
+    // EFFECTS: returns the number of moves that can be taken back with unmakeMove
+    public int getUndoDepth() {
+        return undoDepth;
+    }
+}
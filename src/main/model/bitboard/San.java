@@ -0,0 +1,101 @@
+package model.bitboard;
+
+// Standard algebraic notation (SAN) as used in PGN, e.g. "e4", "Nbd2", "exd5" or "Qxf7#". Parsing matches the text
+// against the legal moves of the side to move, so check, mate and annotation suffixes are only skipped, not checked.
+// This game has no castling or promotion, so "O-O" and "e8=Q" never match. Callers pass in a move buffer of at least
+// MoveGenerator.MAX_MOVES entries so that no allocation is needed.
+public final class San {
+    // piece letters indexed by piece type; pawns are written without a letter but 'P' is accepted
+    private static final String PIECE_LETTERS = "KQPRBN";
+    private static final String SUFFIXES = "+#!?";
+
+    private San() {
+    }
+
+    // MODIFIES: moves
+    // EFFECTS: returns the single legal move of the side to move that san describes, or Moves.NONE if it describes
+    //          no legal move or more than one
+    public static int parse(Position position, CharSequence san, int[] moves) {
+        int end = san.length();
+        while (end > 0 && SUFFIXES.indexOf(san.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        int to = end >= 2 ? squareAt(san, end - 2) : -1;
+        if (to < 0) {
+            return Moves.NONE;
+        }
+        int start = end > 2 && PIECE_LETTERS.indexOf(san.charAt(0)) >= 0 ? 1 : 0;
+        int type = start == 1 ? PIECE_LETTERS.indexOf(san.charAt(0)) : Position.PAWN;
+        int fromFile = -1;
+        int fromRank = -1;
+        for (int i = start; i < end - 2; i++) {
+            char c = san.charAt(i);
+            if (c >= 'a' && c <= 'h') {
+                fromFile = c - 'a';
+            } else if (c >= '1' && c <= '8') {
+                fromRank = c - '1';
+            } else if (c != 'x') {
+                return Moves.NONE;
+            }
+        }
+        return findMove(position, moves, type, to, fromFile, fromRank);
+    }
+
+    // EFFECTS: returns the square named by the two characters at index i, or -1 if they do not name one
+    private static int squareAt(CharSequence san, int i) {
+        int file = san.charAt(i) - 'a';
+        int rank = san.charAt(i + 1) - '1';
+        return file >= 0 && file < 8 && rank >= 0 && rank < 8 ? rank * 8 + file : -1;
+    }
+
+    // MODIFIES: moves
+    // EFFECTS: returns the single legal move of a piece of the given type to the target square from the given file
+    //          and rank (either -1 for any), or Moves.NONE if there is none or more than one
+    private static int findMove(Position position, int[] moves, int type, int to, int fromFile, int fromRank) {
+        int count = MoveGenerator.generateLegalMoves(position, moves);
+        int match = Moves.NONE;
+        for (int i = 0; i < count; i++) {
+            int from = Moves.from(moves[i]);
+            if (Moves.to(moves[i]) != to || Position.typeOf(position.getPieceCode(from)) != type
+                    || (fromFile >= 0 && Bitboards.fileOf(from) != fromFile)
+                    || (fromRank >= 0 && Bitboards.rankOf(from) != fromRank)) {
+                continue;
+            }
+            if (match != Moves.NONE) {
+                return Moves.NONE;
+            }
+            match = moves[i];
+        }
+        return match;
+    }
+
+    // REQUIRES: move is a legal move of the side to move
+    // MODIFIES: moves
+    // EFFECTS: returns what SAN needs after the piece letter to tell move apart from moves of other pieces of the
+    //          same type to the same square: "" if there are none, otherwise the origin file if that is enough, else
+    //          the origin rank if that is enough, else the whole origin square. Pawn moves always return "".
+    public static String disambiguation(Position position, int move, int[] moves) {
+        int from = Moves.from(move);
+        int code = position.getPieceCode(from);
+        if (Position.typeOf(code) == Position.PAWN) {
+            return "";
+        }
+        boolean ambiguous = false;
+        boolean sameFile = false;
+        boolean sameRank = false;
+        int count = MoveGenerator.generateLegalMoves(position, moves);
+        for (int i = 0; i < count; i++) {
+            int other = Moves.from(moves[i]);
+            if (other != from && Moves.to(moves[i]) == Moves.to(move) && position.getPieceCode(other) == code) {
+                ambiguous = true;
+                sameFile |= Bitboards.fileOf(other) == Bitboards.fileOf(from);
+                sameRank |= Bitboards.rankOf(other) == Bitboards.rankOf(from);
+            }
+        }
+        String square = Bitboards.nameOf(from);
+        if (!ambiguous) {
+            return "";
+        }
+        return !sameFile ? square.substring(0, 1) : !sameRank ? square.substring(1) : square;
+    }
+}
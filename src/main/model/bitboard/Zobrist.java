@@ -0,0 +1,47 @@
+package model.bitboard;
+
+// Random keys for Zobrist hashing of a Position. The hash of a position is the XOR of the key of every (piece code,
+// square) pair on the board, the key of every pawn that still has its two-square move, and SIDE when Black is to
+// move, so placing, removing or moving a piece updates it with a couple of XORs. The keys come from a fixed seed, so
+// hashes are the same across runs and can be stored.
+public final class Zobrist {
+    public static final long SIDE;
+    private static final long[][] PIECE_SQUARE = new long[12][64];
+    private static final long[] PAWN_START = new long[64];
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+
+    static {
+        long state = SEED;
+        for (int code = 0; code < 12; code++) {
+            for (int sq = 0; sq < 64; sq++) {
+                state += 0x9E3779B97F4A7C15L;
+                PIECE_SQUARE[code][sq] = mix(state);
+            }
+        }
+        for (int sq = 0; sq < 64; sq++) {
+            state += 0x9E3779B97F4A7C15L;
+            PAWN_START[sq] = mix(state);
+        }
+        SIDE = mix(state + 0x9E3779B97F4A7C15L);
+    }
+
+    private Zobrist() {
+    }
+
+    // EFFECTS: returns the SplitMix64 finalizer of z, which spreads the bits of a counter into a random-looking key
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // EFFECTS: returns the key of a piece with the given code standing on sq
+    public static long piece(int code, int sq) {
+        return PIECE_SQUARE[code][sq];
+    }
+
+    // EFFECTS: returns the key of a pawn on sq that may still advance two squares
+    public static long pawnStart(int sq) {
+        return PAWN_START[sq];
+    }
+}
@@ -0,0 +1,11 @@
+package model.enums;
+
+// The state of a game: still being played, won by checkmate, or drawn under one of the rules of chess
+public enum GameState {
+    ONGOING,
+    CHECKMATE,
+    STALEMATE,
+    INSUFFICIENT_MATERIAL,
+    THREEFOLD_REPETITION,
+    FIFTY_MOVE_RULE
+}
@@ -0,0 +1,114 @@
+package persistence;
+
+import model.Board;
+import model.PositionSnapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+// Saves and loads games through a SaveJournal on a background thread, so disk I/O and parsing never block the caller.
+// Progress messages and results are handed over on the given executor, e.g. SwingUtilities::invokeLater to get them on
+// the event dispatch thread. Saves and loads run one at a time in the order they were asked for.
+//
+// A save takes the board's immutable snapshot on the calling thread, which costs nothing, and rebuilds the board from
+// it in the background, so the caller may keep playing while it is written. Cancelling a returned future drops the
+// save or load if it has not started, and drops the result of a load that has; a save that has started is always
+// finished so the files stay consistent.
+public class AsyncGameStore {
+    private final SaveJournal journal;
+    private final Executor callbackExecutor;
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-store");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // EFFECTS: creates a store that saves and loads through journal and delivers progress and results through
+    //          callbackExecutor
+    public AsyncGameStore(SaveJournal journal, Executor callbackExecutor) {
+        this.journal = journal;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves the current snapshot of board in the background as the current state of board; onProgress is run
+    //          on the callback executor as the save moves along. The returned future completes on the callback
+    //          executor, exceptionally with an UncheckedIOException if the game cannot be written.
+    public CompletableFuture<Void> save(Board board, Consumer<String> onProgress) {
+        PositionSnapshot snapshot = board.getSnapshot();
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        worker.execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                report(onProgress, "Saving game...");
+                journal.save(board, Board.fromSnapshot(snapshot));
+                journal.sync();
+                report(onProgress, "Game saved");
+                callbackExecutor.execute(() -> result.complete(null));
+            } catch (IOException e) {
+                fail(result, new UncheckedIOException(e));
+            } catch (RuntimeException e) {
+                fail(result, e);
+            }
+        });
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: loads the saved game in the background; onProgress is run on the callback executor as the load moves
+    //          along. The returned future completes with the board on the callback executor, or exceptionally with
+    //          an UncheckedIOException if it cannot be read or a JSONException if it is malformed.
+    public CompletableFuture<Board> load(Consumer<String> onProgress) {
+        CompletableFuture<Board> result = new CompletableFuture<>();
+        worker.execute(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            try {
+                report(onProgress, "Loading saved game...");
+                Board board = journal.load();
+                report(onProgress, "Loaded " + board.getMoveList().getAllMoves().size() + " moves");
+                callbackExecutor.execute(() -> result.complete(board));
+            } catch (IOException e) {
+                fail(result, new UncheckedIOException(e));
+            } catch (RuntimeException e) {
+                fail(result, e);
+            }
+        });
+        return result;
+    }
+
+    // EFFECTS: runs onProgress with message on the callback executor
+    private void report(Consumer<String> onProgress, String message) {
+        callbackExecutor.execute(() -> onProgress.accept(message));
+    }
+
+    // EFFECTS: completes result exceptionally with e on the callback executor
+    private void fail(CompletableFuture<?> result, RuntimeException e) {
+        callbackExecutor.execute(() -> result.completeExceptionally(e));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: finishes the saves and loads already asked for, closes the journal and releases the background
+    //          thread; the returned future completes on the callback executor once that is done
+    public CompletableFuture<Void> shutdown() {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        worker.execute(() -> {
+            try {
+                journal.close();
+                callbackExecutor.execute(() -> result.complete(null));
+            } catch (IOException e) {
+                fail(result, new UncheckedIOException(e));
+            }
+        });
+        worker.shutdown();
+        return result;
+    }
+}
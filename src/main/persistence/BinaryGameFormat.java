@@ -0,0 +1,40 @@
+package persistence;
+
+// Layout of the compact binary game format written by BinaryGameWriter and read by BinaryGameReader. A save of the
+// starting position is 32 bytes and each move adds 3, against several kilobytes of pretty-printed JSON. All values
+// are big-endian.
+//
+//     magic         3 bytes   'T' 'C' 'G'
+//     version       1 byte    VERSION; readers reject versions they do not know
+//     flags         1 byte    FLAG_BLACK_TO_MOVE, FLAG_GAME_OVER
+//     occupancy     8 bytes   bitboard of occupied squares, bit 0 = a1 to bit 63 = h8
+//     pieces        1 nibble  per occupied square from a1 to h8, low nibble first: the piece code (see Position),
+//                             padded to a whole byte
+//     pawn starts   1 bit     per pawn from a1 to h8, low bit first: set if it may still advance two squares,
+//                             padded to a whole byte
+//     move count    varint    7 bits per byte, low bits first, high bit set on all but the last byte
+//     moves         3 bytes   per move, oldest first: a 16-bit move (from, to << 6, then the MOVE_ flags) followed by
+//                             the moved piece's type | the captured piece's type << 3, as Type ordinals
+final class BinaryGameFormat {
+    static final byte[] MAGIC = {'T', 'C', 'G'};
+    static final int VERSION = 1;
+
+    static final int FLAG_BLACK_TO_MOVE = 1;
+    static final int FLAG_GAME_OVER = 1 << 1;
+
+    static final int MOVE_WHITE = 1 << 12;
+    static final int MOVE_TAKE = 1 << 13;
+    static final int MOVE_CHECK = 1 << 14;
+    static final int MOVE_CHECKMATE = 1 << 15;
+
+    // bytes before the move list: magic, version, flags, occupancy, up to 32 bytes of pieces, up to 8 of pawn starts
+    static final int MAX_HEADER_BYTES = 3 + 1 + 1 + 8 + 32 + 8;
+    static final int MAX_VARINT_BYTES = 5;
+    static final int MOVE_BYTES = 3;
+
+    // piece letters used in move records, indexed by the Type ordinal of the moved piece
+    static final String[] PIECE_IDS = {"K", "Q", "", "R", "B", "N"};
+
+    private BinaryGameFormat() {
+    }
+}
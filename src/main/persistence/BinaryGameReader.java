@@ -0,0 +1,196 @@
+package persistence;
+
+import model.Board;
+import model.Move;
+import model.MoveList;
+import model.enums.Action;
+import model.enums.Side;
+import model.enums.Type;
+import model.bitboard.Bitboards;
+import model.bitboard.Position;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static persistence.BinaryGameFormat.*;
+
+// Represents a reader that reads a board from a file in the compact binary format described in BinaryGameFormat.
+// Pieces go straight into a bitboard Position, so loading does no text parsing and creates one Piece object per piece.
+public class BinaryGameReader {
+    private String source;
+
+    // EFFECTS: constructs reader to read from source file
+    public BinaryGameReader(String source) {
+        this.source = source;
+    }
+
+    // EFFECTS: reads board from file and returns it;
+    // throws IOException if an error occurs reading data from file or the data is not a valid binary game
+    public Board read() throws IOException {
+        return fromBytes(Files.readAllBytes(Paths.get(source)));
+    }
+
+    // EFFECTS: returns the board that data represents; throws IOException if data is not a valid binary game of a
+    //          version this reader knows
+    public static Board fromBytes(byte[] data) throws IOException {
+        return fromBuffer(ByteBuffer.wrap(data));
+    }
+
+    // MODIFIES: in
+    // EFFECTS: returns the board that the remaining bytes of in represent, reading them all; throws IOException if
+    //          they are not a valid binary game of a version this reader knows
+    public static Board fromBuffer(ByteBuffer in) throws IOException {
+        try {
+            checkHeader(in);
+            int flags = in.get();
+            Position position = new Position();
+            position.setSideToMove((flags & FLAG_BLACK_TO_MOVE) != 0 ? Position.BLACK : Position.WHITE);
+            getPieces(in, position);
+            MoveList moveList = getMoves(in);
+            checkEnd(in);
+            return Board.fromPosition(position, moveList, (flags & FLAG_GAME_OVER) != 0);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Binary game ends too early", e);
+        }
+    }
+
+    // MODIFIES: in
+    // EFFECTS: returns the move history of the binary game in the remaining bytes of in, skipping the position and
+    //          reading them all; throws IOException if they are not a valid binary game of a version this reader knows
+    public static MoveList moveListFromBuffer(ByteBuffer in) throws IOException {
+        try {
+            checkHeader(in);
+            in.get();
+            long occupied = in.getLong();
+            int pawns = 0;
+            for (int code : getPieceCodes(in, Long.bitCount(occupied))) {
+                pawns += Position.typeOf(code) == Position.PAWN ? 1 : 0;
+            }
+            in.position(in.position() + (pawns + 7) / 8);
+            MoveList moveList = getMoves(in);
+            checkEnd(in);
+            return moveList;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("Binary game ends too early", e);
+        }
+    }
+
+    // EFFECTS: throws IOException if in has bytes left after the last move
+    private static void checkEnd(ByteBuffer in) throws IOException {
+        if (in.hasRemaining()) {
+            throw new IOException("Unexpected bytes after the last move");
+        }
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads the magic and version; throws IOException if this is not a binary game of a known version
+    private static void checkHeader(ByteBuffer in) throws IOException {
+        for (byte b : MAGIC) {
+            if (in.get() != b) {
+                throw new IOException("Not a binary game");
+            }
+        }
+        int version = in.get() & 0xff;
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary game version " + version);
+        }
+    }
+
+    // MODIFIES: in, position
+    // EFFECTS: reads the occupancy, piece codes and pawn start flags into position; throws IOException if a piece
+    //          code is not valid
+    private static void getPieces(ByteBuffer in, Position position) throws IOException {
+        long occupied = in.getLong();
+        int[] codes = getPieceCodes(in, Long.bitCount(occupied));
+        int pawns = 0;
+        for (int code : codes) {
+            pawns += Position.typeOf(code) == Position.PAWN ? 1 : 0;
+        }
+        byte[] starts = new byte[(pawns + 7) / 8];
+        in.get(starts);
+        int pawn = 0;
+        for (int code : codes) {
+            int sq = Long.numberOfTrailingZeros(occupied);
+            occupied &= occupied - 1;
+            boolean start = Position.typeOf(code) == Position.PAWN && (starts[pawn / 8] >>> pawn++ % 8 & 1) != 0;
+            position.putPiece(sq, code, start);
+        }
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads count piece codes packed two to a byte; throws IOException if one is not valid
+    private static int[] getPieceCodes(ByteBuffer in, int count) throws IOException {
+        byte[] packed = new byte[(count + 1) / 2];
+        in.get(packed);
+        int[] codes = new int[count];
+        for (int i = 0; i < count; i++) {
+            codes[i] = packed[i / 2] >>> i % 2 * 4 & 0xf;
+            if (codes[i] >= 12) {
+                throw new IOException("Invalid piece code " + codes[i]);
+            }
+        }
+        return codes;
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads the move count and the moves into a new move list; throws IOException if the count is more
+    //          than the remaining bytes can hold or a piece type is not valid
+    private static MoveList getMoves(ByteBuffer in) throws IOException {
+        int count = getVarint(in);
+        if (count > in.remaining() / MOVE_BYTES) {
+            throw new IOException("Move count " + count + " exceeds the data");
+        }
+        List<Move> moves = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            moves.add(getMove(in));
+        }
+        return new MoveList(moves);
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads one move; throws IOException if its piece types are not valid
+    private static Move getMove(ByteBuffer in) throws IOException {
+        int packed = in.getShort() & 0xffff;
+        int types = in.get() & 0xff;
+        Type[] values = Type.values();
+        if ((types & 7) >= Type.EMPTY.ordinal() || (types >>> 3) > Type.EMPTY.ordinal()) {
+            throw new IOException("Invalid piece types in move " + types);
+        }
+        List<Action> actions = new ArrayList<>();
+        if ((packed & MOVE_TAKE) != 0) {
+            actions.add(Action.TAKE);
+        }
+        if ((packed & MOVE_CHECKMATE) != 0) {
+            actions.add(Action.CHECKMATE);
+        } else if ((packed & MOVE_CHECK) != 0) {
+            actions.add(Action.CHECK);
+        }
+        Side fromSide = (packed & MOVE_WHITE) != 0 ? Side.WHITE : Side.BLACK;
+        Side toSide = fromSide == Side.WHITE ? Side.BLACK : Side.WHITE;
+        Type fromType = values[types & 7];
+        return new Move(fromSide, fromType, Bitboards.nameOf(packed & 63), PIECE_IDS[fromType.ordinal()], actions,
+                toSide, values[types >>> 3], Bitboards.nameOf(packed >>> 6 & 63));
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads a varint; throws IOException if it does not fit in a non-negative int
+    private static int getVarint(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.get() & 0xff;
+            value |= (b & 0x7f) << shift;
+            if (b < 0x80) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Invalid move count");
+    }
+}
@@ -0,0 +1,130 @@
+package persistence;
+
+import model.Board;
+import model.Move;
+import model.enums.Action;
+import model.enums.Side;
+import model.bitboard.Bitboards;
+import model.bitboard.Position;
+
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static persistence.BinaryGameFormat.*;
+
+// Represents a writer that writes a chess board to file in the compact binary format described in BinaryGameFormat,
+// the counterpart of JsonWriter for saves that should be small and quick to load
+public class BinaryGameWriter {
+    private OutputStream writer;
+    private String destination;
+
+    // EFFECTS: constructs writer to write to destination file
+    public BinaryGameWriter(String destination) {
+        this.destination = destination;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens writer; throws FileNotFoundException if destination file cannot be opened for writing
+    public void open() throws FileNotFoundException {
+        writer = new BufferedOutputStream(new FileOutputStream(destination));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes binary representation of chess board to file; throws IOException if it cannot be written
+    public void write(Board board) throws IOException {
+        writer.write(toBytes(board));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes writer; throws IOException if buffered bytes cannot be written
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    // REQUIRES: every move in the board's move history has a non-null toType
+    // EFFECTS: returns the binary representation of board
+    public static byte[] toBytes(Board board) {
+        List<Move> moves = board.getMoveList().getAllMoves();
+        ByteBuffer out = ByteBuffer.allocate(MAX_HEADER_BYTES + MAX_VARINT_BYTES + moves.size() * MOVE_BYTES);
+        Position position = board.getPosition();
+        out.put(MAGIC).put((byte) VERSION);
+        int flags = position.getSideToMove() == Position.BLACK ? FLAG_BLACK_TO_MOVE : 0;
+        out.put((byte) (board.getGameOver() ? flags | FLAG_GAME_OVER : flags));
+        out.putLong(position.getOccupied());
+        putPieces(out, position);
+        putVarint(out, moves.size());
+        for (Move move : moves) {
+            putMove(out, move);
+        }
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    // MODIFIES: out
+    // EFFECTS: puts the piece codes of the occupied squares two to a byte, then the pawn start flags eight to a byte
+    private static void putPieces(ByteBuffer out, Position position) {
+        int pending = -1;
+        for (long rest = position.getOccupied(); rest != 0; rest &= rest - 1) {
+            int code = position.getPieceCode(Long.numberOfTrailingZeros(rest));
+            if (pending < 0) {
+                pending = code;
+            } else {
+                out.put((byte) (pending | code << 4));
+                pending = -1;
+            }
+        }
+        if (pending >= 0) {
+            out.put((byte) pending);
+        }
+        putPawnStarts(out, position);
+    }
+
+    // MODIFIES: out
+    // EFFECTS: puts the pawn start flag of every pawn eight to a byte
+    private static void putPawnStarts(ByteBuffer out, Position position) {
+        int bits = 0;
+        int count = 0;
+        for (long rest = position.getOccupied(); rest != 0; rest &= rest - 1) {
+            int sq = Long.numberOfTrailingZeros(rest);
+            if (Position.typeOf(position.getPieceCode(sq)) != Position.PAWN) {
+                continue;
+            }
+            bits |= (int) (position.getPawnStarts() >>> sq & 1) << count % 8;
+            if (++count % 8 == 0) {
+                out.put((byte) bits);
+                bits = 0;
+            }
+        }
+        if (count % 8 != 0) {
+            out.put((byte) bits);
+        }
+    }
+
+    // MODIFIES: out
+    // EFFECTS: puts the 16-bit move and the piece types of move
+    private static void putMove(ByteBuffer out, Move move) {
+        int packed = Bitboards.squareOf(move.getFromPos()) | Bitboards.squareOf(move.getToPos()) << 6;
+        packed |= move.getFromSide() == Side.WHITE ? MOVE_WHITE : 0;
+        packed |= move.hasAction(Action.TAKE) ? MOVE_TAKE : 0;
+        packed |= move.hasAction(Action.CHECK) ? MOVE_CHECK : 0;
+        packed |= move.hasAction(Action.CHECKMATE) ? MOVE_CHECKMATE : 0;
+        out.putShort((short) packed);
+        out.put((byte) (move.getFromType().ordinal() | move.getToType().ordinal() << 3));
+    }
+
+    // REQUIRES: value >= 0
+    // MODIFIES: out
+    // EFFECTS: puts value as a varint
+    private static void putVarint(ByteBuffer out, int value) {
+        while (value >= 0x80) {
+            out.put((byte) (value & 0x7f | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+}
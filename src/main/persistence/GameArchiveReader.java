@@ -0,0 +1,111 @@
+package persistence;
+
+import model.Board;
+import model.MoveList;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import static persistence.GameArchiveWriter.ENTRY_BYTES;
+import static persistence.GameArchiveWriter.INDEX_HEADER_BYTES;
+import static persistence.GameArchiveWriter.LENGTH_BITS;
+
+// Represents a reader that gives random access to the games of a game archive written by GameArchiveWriter. Both
+// files are mapped into memory with FileChannel.map rather than read onto the heap, the data file in segments of the
+// archive's segment size, so opening an archive of any size is cheap and game N is found with one index lookup. A
+// game's bytes are only touched, and paged in, when it is read. The reader sees the games that were in the archive
+// when it was opened and is safe to share between threads.
+public class GameArchiveReader implements Closeable {
+    private final String path;
+    private ByteBuffer index;
+    private ByteBuffer[] segments;
+    private int segmentBits;
+    private int size;
+
+    // EFFECTS: constructs reader to read the archive whose data file is at path
+    public GameArchiveReader(String path) {
+        this.path = path;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: maps the archive's index and data files; throws IOException if they cannot be opened or the index is
+    //          not a game archive index
+    public void open() throws IOException {
+        try (FileChannel indexChannel = FileChannel.open(Paths.get(path + ".idx"), StandardOpenOption.READ);
+             FileChannel dataChannel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            long indexBytes = indexChannel.size();
+            if (indexBytes < INDEX_HEADER_BYTES || indexBytes > Integer.MAX_VALUE) {
+                throw new IOException("Game archive index has an invalid size of " + indexBytes + " bytes");
+            }
+            index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, indexBytes);
+            segmentBits = GameArchiveWriter.checkIndexHeader(index.duplicate());
+            size = (int) ((indexBytes - INDEX_HEADER_BYTES) / ENTRY_BYTES);
+            segments = mapSegments(dataChannel);
+        }
+    }
+
+    // EFFECTS: maps the data file in consecutive segments of 2^segmentBits bytes, the last one possibly shorter
+    private ByteBuffer[] mapSegments(FileChannel dataChannel) throws IOException {
+        long dataBytes = dataChannel.size();
+        long segmentBytes = 1L << segmentBits;
+        ByteBuffer[] res = new ByteBuffer[(int) ((dataBytes + segmentBytes - 1) >>> segmentBits)];
+        for (int i = 0; i < res.length; i++) {
+            long start = (long) i << segmentBits;
+            res[i] = dataChannel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentBytes, dataBytes - start));
+        }
+        return res;
+    }
+
+    // REQUIRES: the archive is open
+    // EFFECTS: returns a read-only view of the bytes of game n, in the format of BinaryGameWriter, without copying
+    //          them; throws IndexOutOfBoundsException if there is no game n, or IOException if its index entry points
+    //          outside the data file
+    public ByteBuffer getGame(int n) throws IOException {
+        Objects.checkIndex(n, size);
+        long entry = index.getLong(INDEX_HEADER_BYTES + n * ENTRY_BYTES);
+        long offset = entry >>> LENGTH_BITS;
+        int length = (int) (entry & (1 << LENGTH_BITS) - 1);
+        int segment = (int) (offset >>> segmentBits);
+        int start = (int) (offset & (1L << segmentBits) - 1);
+        if (segment >= segments.length || start + length > segments[segment].limit()) {
+            throw new IOException("Game " + n + " lies outside the archive data");
+        }
+        ByteBuffer game = segments[segment].duplicate();
+        game.position(start).limit(start + length);
+        return game.slice();
+    }
+
+    // REQUIRES: the archive is open
+    // EFFECTS: returns game n as a board; throws IndexOutOfBoundsException if there is no game n, or IOException if
+    //          its data is not a valid binary game
+    public Board read(int n) throws IOException {
+        return BinaryGameReader.fromBuffer(getGame(n));
+    }
+
+    // REQUIRES: the archive is open
+    // EFFECTS: returns the move history of game n without building its board; throws IndexOutOfBoundsException if
+    //          there is no game n, or IOException if its data is not a valid binary game
+    public MoveList readMoveList(int n) throws IOException {
+        return BinaryGameReader.moveListFromBuffer(getGame(n));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: drops the mappings, which the JVM releases once no views of them remain
+    @Override
+    public void close() {
+        index = null;
+        segments = null;
+        size = 0;
+    }
+
+    // ===== getters =====
+    // EFFECTS: returns the number of games in the archive when it was opened
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,163 @@
+package persistence;
+
+import model.Board;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// Represents a writer that appends games to a game archive, the format read by GameArchiveReader. An archive is two
+// files: the data file at the archive's path holds the games one after another in the format of BinaryGameWriter, and
+// the index file next to it (path + ".idx") holds an 8-byte header (magic, version and segment size) followed by one
+// fixed-width 8-byte entry per game giving where its record starts and how long it is. Both files are only ever
+// appended to.
+//
+// So that a reader can map the data file in fixed-size segments, a record never straddles a segment boundary; one
+// that would is moved to the start of the next segment. Index entries are written only after the data they point at
+// has been flushed, so an archive cut short by a crash may have unindexed data but never an entry without its game.
+public class GameArchiveWriter {
+    static final byte[] INDEX_MAGIC = {'T', 'C', 'G', 'I', 'D', 'X'};
+    static final int INDEX_VERSION = 1;
+    static final int INDEX_HEADER_BYTES = 8;
+    static final int ENTRY_BYTES = 8;
+    // an entry is offset << LENGTH_BITS | length
+    static final int LENGTH_BITS = 24;
+    static final int MIN_SEGMENT_BITS = 10;
+    static final int DEFAULT_SEGMENT_BITS = 30;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final String path;
+    private int segmentBits;
+    private final ByteBuffer pendingEntries = ByteBuffer.allocate(BUFFER_SIZE);
+    private OutputStream data;
+    private OutputStream index;
+    private long dataSize;
+    private int size;
+
+    // EFFECTS: constructs writer to append to the archive whose data file is at path
+    public GameArchiveWriter(String path) {
+        this(path, DEFAULT_SEGMENT_BITS);
+    }
+
+    // REQUIRES: MIN_SEGMENT_BITS <= segmentBits <= DEFAULT_SEGMENT_BITS
+    // EFFECTS: constructs writer to append to the archive at path, which if new is mapped in segments of
+    //          2^segmentBits bytes
+    GameArchiveWriter(String path, int segmentBits) {
+        this.path = path;
+        this.segmentBits = segmentBits;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens the archive for appending, creating it if it does not exist and dropping any partly written
+    //          index entry; throws IOException if it cannot be opened or is not a game archive
+    public void open() throws IOException {
+        File indexFile = new File(path + ".idx");
+        try (RandomAccessFile raf = new RandomAccessFile(indexFile, "rw")) {
+            if (raf.length() == 0) {
+                raf.write(INDEX_MAGIC);
+                raf.write(INDEX_VERSION);
+                raf.write(segmentBits);
+            }
+            segmentBits = readIndexHeader(raf);
+            long entries = (raf.length() - INDEX_HEADER_BYTES) / ENTRY_BYTES;
+            raf.setLength(INDEX_HEADER_BYTES + entries * ENTRY_BYTES);
+            size = (int) entries;
+            raf.seek(raf.length() - ENTRY_BYTES);
+            long last = entries == 0 ? 0 : raf.readLong();
+            dataSize = (last >>> LENGTH_BITS) + (last & (1 << LENGTH_BITS) - 1);
+        }
+        long onDisk = new File(path).length();
+        if (onDisk < dataSize) {
+            throw new IOException("Archive data is shorter than its index");
+        }
+        dataSize = onDisk;
+        data = new BufferedOutputStream(new FileOutputStream(path, true), BUFFER_SIZE);
+        index = new FileOutputStream(indexFile, true);
+    }
+
+    // EFFECTS: reads the index header of raf and returns the archive's segment bits; throws IOException if it is not
+    //          a game archive index of a known version
+    private static int readIndexHeader(RandomAccessFile raf) throws IOException {
+        byte[] header = new byte[INDEX_HEADER_BYTES];
+        raf.seek(0);
+        raf.readFully(header);
+        return checkIndexHeader(ByteBuffer.wrap(header));
+    }
+
+    // MODIFIES: header
+    // EFFECTS: reads an index header and returns the archive's segment bits; throws IOException if it is not a game
+    //          archive index of a known version
+    static int checkIndexHeader(ByteBuffer header) throws IOException {
+        byte[] magic = new byte[INDEX_MAGIC.length];
+        header.get(magic);
+        int version = header.get();
+        int segmentBits = header.get();
+        if (!Arrays.equals(magic, INDEX_MAGIC) || version != INDEX_VERSION
+                || segmentBits < MIN_SEGMENT_BITS || segmentBits > DEFAULT_SEGMENT_BITS) {
+            throw new IOException("Not a game archive index of version " + INDEX_VERSION);
+        }
+        return segmentBits;
+    }
+
+    // REQUIRES: the archive is open and holds less than 2^40 bytes of games
+    // MODIFIES: this
+    // EFFECTS: appends board to the archive and returns its index in the archive; throws IOException if it cannot
+    //          be written, or IllegalArgumentException if its record is too long for the archive's segments
+    public int append(Board board) throws IOException {
+        byte[] record = BinaryGameWriter.toBytes(board);
+        if (record.length >= 1 << LENGTH_BITS || record.length > 1L << segmentBits) {
+            throw new IllegalArgumentException("Game of " + record.length + " bytes is too long for the archive");
+        }
+        if (dataSize >>> segmentBits != (dataSize + record.length - 1) >>> segmentBits) {
+            long nextSegment = ((dataSize >>> segmentBits) + 1) << segmentBits;
+            writeZeros(nextSegment - dataSize);
+        }
+        data.write(record);
+        if (!pendingEntries.hasRemaining()) {
+            flush();
+        }
+        pendingEntries.putLong(dataSize << LENGTH_BITS | record.length);
+        dataSize += record.length;
+        return size++;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: pads the data file with count zero bytes
+    private void writeZeros(long count) throws IOException {
+        for (long i = 0; i < count; i++) {
+            data.write(0);
+        }
+        dataSize += count;
+    }
+
+    // REQUIRES: the archive is open
+    // MODIFIES: this
+    // EFFECTS: writes out all appended games, data before index entries; throws IOException if they cannot be written
+    public void flush() throws IOException {
+        data.flush();
+        index.write(pendingEntries.array(), 0, pendingEntries.position());
+        pendingEntries.clear();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes out all appended games and closes the archive; throws IOException if they cannot be written
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            data.close();
+            index.close();
+        }
+    }
+
+    // ===== getters =====
+    // EFFECTS: returns the number of games in the archive, including those appended but not yet flushed
+    public int size() {
+        return size;
+    }
+}
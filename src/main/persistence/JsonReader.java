@@ -1,12 +1,13 @@
 package persistence;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.function.Consumer;
 
 import model.Board;
 import model.Move;
@@ -29,48 +30,82 @@ public class JsonReader {
     // EFFECTS: reads board from file and returns it;
     // throws IOException if an error occurs reading data from file
     public Board read() throws IOException {
-        String jsonData = readFile(source);
-        JSONObject jsonBoard = new JSONObject(jsonData);
-        return parseBoard(jsonBoard);
-    }
-
-    // EFFECTS: reads source file as string and returns it
-    private String readFile(String source) throws IOException {
-        StringBuilder contentBuilder = new StringBuilder();
-
-        try (Stream<String> stream = Files.lines(Paths.get(source), StandardCharsets.UTF_8)) {
-            stream.forEach(s -> contentBuilder.append(s));
+        try (Reader reader = Files.newBufferedReader(Paths.get(source), StandardCharsets.UTF_8)) {
+            return parseBoard(new JSONTokener(reader));
         }
-
-        return contentBuilder.toString();
     }
 
-    // EFFECTS: parses board from JSON object and returns it
-    private Board parseBoard(JSONObject jsonBoard) {
+    // EFFECTS: parses board from the JSON object read by tokener and returns it; each move and piece is turned into
+    //          its real object as soon as it is read, so no JSON tree of the whole board is built, and the board
+    //          publishes its snapshot once the move history is set
+    private Board parseBoard(JSONTokener tokener) {
         Board board = new Board();
         board.clearBoard();
-        addSimpleBoardData(board, jsonBoard);
-        addMoveList(board, jsonBoard);
-        addPieces(board, jsonBoard);
+        List<Move> moves = new ArrayList<>();
+        expect(tokener, '{');
+        boolean more = tokener.nextClean() != '}';
+        if (more) {
+            tokener.back();
+        }
+        while (more) {
+            String key = tokener.nextValue().toString();
+            expect(tokener, ':');
+            parseField(board, moves, key, tokener);
+            char next = tokener.nextClean();
+            if (next != ',' && next != '}') {
+                throw tokener.syntaxError("Expected a ',' or '}'");
+            }
+            more = next == ',';
+        }
+        board.recomputePositionKey();
+        board.setMoveList(new MoveList(moves));
         return board;
     }
 
-    // EFFECTS: transfer simple data (i.e. enums, booleans, strings) from JSON board to real board
-    private void addSimpleBoardData(Board board, JSONObject jsonBoard) {
-        Side currentTurn = Side.valueOf(jsonBoard.getString("currentTurn"));
-        boolean gameOver = jsonBoard.getBoolean("gameOver");
-        board.setCurrentTurn(currentTurn);
-        board.setGameOver(gameOver);
+    // MODIFIES: board, moves
+    // EFFECTS: reads the value of the board field with the given key and transfers it to the real board, or to moves
+    //          for the move history; values of unknown fields are skipped
+    private void parseField(Board board, List<Move> moves, String key, JSONTokener tokener) {
+        switch (key) {
+            case "currentTurn":
+                board.setCurrentTurn(Side.valueOf(tokener.nextValue().toString()));
+                break;
+            case "gameOver":
+                board.setGameOver(Boolean.TRUE.equals(tokener.nextValue()));
+                break;
+            case "moveList":
+                parseArray(tokener, move -> moves.add(createMove(move)));
+                break;
+            case "pieces":
+                parseArray(tokener, piece -> addPiece(board, piece));
+                break;
+            default:
+                tokener.nextValue();
+        }
+    }
+
+    // EFFECTS: reads a JSON array of objects, passing each one to action as soon as it is read
+    private void parseArray(JSONTokener tokener, Consumer<JSONObject> action) {
+        expect(tokener, '[');
+        boolean more = tokener.nextClean() != ']';
+        if (more) {
+            tokener.back();
+        }
+        while (more) {
+            action.accept(new JSONObject(tokener));
+            char next = tokener.nextClean();
+            if (next != ',' && next != ']') {
+                throw tokener.syntaxError("Expected a ',' or ']'");
+            }
+            more = next == ',';
+        }
     }
 
-    // EFFECTS: transfer move history stored in JSON object to the real board
-    private void addMoveList(Board board, JSONObject jsonBoard) {
-        JSONArray moveList = jsonBoard.getJSONArray("moveList");
-        MoveList ml = new MoveList();
-        for (Object move : moveList) {
-            ml.addMove(createMove((JSONObject) move));
+    // EFFECTS: reads the next non-whitespace character; throws JSONException if it is not c
+    private void expect(JSONTokener tokener, char c) {
+        if (tokener.nextClean() != c) {
+            throw tokener.syntaxError("Expected '" + c + "'");
         }
-        board.setMoveList(ml);
     }
 
     // EFFECTS: constructs Move from JSONObject representation of a move
@@ -86,23 +121,13 @@ public class JsonReader {
         return new Move(fromSide, fromType, fromPos, fromId, new ArrayList<>(), toSide, toType, toPos);
     }
 
-
-    // EFFECTS: transfer pieces stored in JSON to the real board
-    private void addPieces(Board board, JSONObject jsonBoard) {
-        JSONArray piecesArray = jsonBoard.getJSONArray("pieces");
-        for (Object json : piecesArray) {
-            JSONObject piece = (JSONObject) json;
-            addPiece(board, piece);
-        }
-    }
-
     // EFFECTS: transfer a single piece represented in JSON to the real board
     private void addPiece(Board board, JSONObject pieceJson) {
         String piecePosition = pieceJson.getString("position");
 
         Piece constructedPiece = constructPiece(board, pieceJson);
 
-        board.setPiece(piecePosition, constructedPiece);
+        board.placePiece(piecePosition, constructedPiece);
     }
 
     // EFFECTS: parse JSON data for a piece and return a reconstructed real piece
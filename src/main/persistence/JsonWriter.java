@@ -1,12 +1,19 @@
 package persistence;
 
 import model.Board;
+import model.Move;
+import model.pieces.Piece;
 import org.json.JSONObject;
 
 
 import java.io.*;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
 
-// Represents a writer that writes JSON representation of chess board to file
+// Represents a writer that writes JSON representation of chess board to file. The board is streamed to the file one
+// move and one piece at a time, so saving a long game never holds a JSON tree or string of the whole board. The output
+// is laid out as board.toJson().toString(TAB) would be, with the fields in a fixed order.
 public class JsonWriter {
     private static final int TAB = 4;
     private PrintWriter writer;
@@ -27,8 +34,17 @@ public class JsonWriter {
     // MODIFIES: this
     // EFFECTS: writes JSON representation of chess board to file
     public void write(Board board) {
-        JSONObject json = board.toJson();
-        saveToFile(json.toString(TAB));
+        writer.print("{");
+        writeKey("currentTurn");
+        writer.print(JSONObject.quote(board.getCurrentTurn().toString()) + ",");
+        writeKey("gameOver");
+        writer.print(board.getGameOver() + ",");
+        writeKey("moveList");
+        writeArray(board.getMoveList().getAllMoves().stream().map(Move::toJson));
+        writer.print(",");
+        writeKey("pieces");
+        writeArray(board.getAllPositions().stream().map(board::getPiece).filter(Objects::nonNull).map(Piece::toJson));
+        writer.print("\n}");
     }
 
     // MODIFIES: this
@@ -38,8 +54,25 @@ public class JsonWriter {
     }
 
     // MODIFIES: this
-    // EFFECTS: writes string to file
-    private void saveToFile(String json) {
-        writer.print(json);
+    // EFFECTS: starts a new line holding the key of a field of the board
+    private void writeKey(String key) {
+        writer.print("\n" + " ".repeat(TAB) + JSONObject.quote(key) + ": ");
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the elements as a JSON array, writing each one out before the next is created
+    private void writeArray(Stream<JSONObject> elements) {
+        Iterator<JSONObject> iterator = elements.iterator();
+        if (!iterator.hasNext()) {
+            writer.print("[]");
+            return;
+        }
+        writer.print("[");
+        while (iterator.hasNext()) {
+            writer.print("\n" + " ".repeat(2 * TAB));
+            iterator.next().write(writer, TAB, 2 * TAB);
+            writer.print(iterator.hasNext() ? "," : "");
+        }
+        writer.print("\n" + " ".repeat(TAB) + "]");
     }
 }
@@ -0,0 +1,61 @@
+package persistence;
+
+import model.Board;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// A game read from or written to PGN: its tag pairs in file order, the board the moves were replayed on (holding
+// the final position and the move history), and the game result ("1-0", "0-1", "1/2-1/2" or "*")
+public class PgnGame {
+    private final Map<String, String> tags;
+    private final Board board;
+    private final String result;
+
+    // EFFECTS: creates a game with the given tags, replayed board and result
+    public PgnGame(Map<String, String> tags, Board board, String result) {
+        this.tags = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+        this.board = board;
+        this.result = result;
+    }
+
+    // EFFECTS: creates a game with the given tags and board, whose result is a win for the side that delivered mate
+    //          or a draw if the game is over and "*" (unfinished) otherwise
+    public PgnGame(Map<String, String> tags, Board board) {
+        this(tags, board, resultOf(board));
+    }
+
+    // EFFECTS: returns the PGN result of the game on board
+    private static String resultOf(Board board) {
+        if (!board.getGameOver()) {
+            return "*";
+        }
+        switch (board.getWinner()) {
+            case "White":
+                return "1-0";
+            case "Black":
+                return "0-1";
+            default:
+                return "1/2-1/2";
+        }
+    }
+
+    // EFFECTS: returns the value of the named tag, or null if the game does not have it
+    public String getTag(String name) {
+        return tags.get(name);
+    }
+
+    // ===== getters =====
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public String getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,271 @@
+package persistence;
+
+import model.Board;
+import model.bitboard.Bitboards;
+import model.bitboard.MoveGenerator;
+import model.bitboard.Moves;
+import model.bitboard.San;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// Represents a reader that streams the games of a PGN file one at a time, so files of any size can be read in memory
+// bounded by the longest game. Each game's SAN moves are replayed into a new Board (from the position of its FEN tag
+// if it has one), which then holds the final position and the MoveList. Comments, variations and annotation glyphs
+// are skipped. Games the Board cannot replay, such as games with castling, en passant or promotion, are skipped and
+// counted. Read errors are thrown as UncheckedIOException, since Iterator methods cannot throw IOException.
+public class PgnReader implements Iterator<PgnGame>, Closeable {
+    private static final int END = -1;
+    private static final int NOTHING_PEEKED = -2;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String[] RESULTS = {"1-0", "0-1", "1/2-1/2", "*"};
+
+    private final Reader source;
+    private final StringBuilder token = new StringBuilder();
+    private final int[] moveBuffer = new int[MoveGenerator.MAX_MOVES];
+    private int peeked = NOTHING_PEEKED;
+    private PgnGame nextGame;
+    private boolean finished;
+    private int skippedGames;
+
+    // EFFECTS: constructs reader to read games from source file, decoded as UTF-8; throws FileNotFoundException if
+    //          the file cannot be opened
+    public PgnReader(String source) throws FileNotFoundException {
+        this(new InputStreamReader(new FileInputStream(source), StandardCharsets.UTF_8));
+    }
+
+    // EFFECTS: constructs reader to read games from the given character stream
+    public PgnReader(Reader source) {
+        this.source = new BufferedReader(source, BUFFER_SIZE);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns true if there is another game to read, reading ahead to it if needed
+    @Override
+    public boolean hasNext() {
+        try {
+            if (nextGame == null && !finished) {
+                nextGame = readGame();
+            }
+            return nextGame != null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the next game; throws NoSuchElementException if there are no more games
+    @Override
+    public PgnGame next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        PgnGame game = nextGame;
+        nextGame = null;
+        return game;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the underlying stream
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads games until one can be replayed and returns it, or returns null at the end of the stream
+    private PgnGame readGame() throws IOException {
+        while (true) {
+            if (skipSpace() == END) {
+                finished = true;
+                return null;
+            }
+            Map<String, String> tags = new LinkedHashMap<>();
+            while (skipSpace() == '[') {
+                read();
+                readTag(tags);
+            }
+            PgnGame game = readMovetext(tags);
+            if (game != null) {
+                return game;
+            }
+            skippedGames++;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the rest of a tag pair after its opening '[' into tags
+    private void readTag(Map<String, String> tags) throws IOException {
+        token.setLength(0);
+        for (int c = read(); c != END && c != '"' && c != ']'; c = read()) {
+            token.append((char) c);
+        }
+        String name = token.toString().trim();
+        token.setLength(0);
+        for (int c = read(); c != END && c != '"'; c = read()) {
+            token.append((char) (c == '\\' ? read() : c));
+        }
+        skipPast(']');
+        tags.put(name, token.toString());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the movetext of a game up to and including its result, replaying each move, and returns the
+    //          game, or null if it could not be replayed
+    private PgnGame readMovetext(Map<String, String> tags) throws IOException {
+        Board board = startingBoard(tags);
+        boolean playable = board != null;
+        while (nextToken()) {
+            String result = resultOf(token);
+            if (result != null) {
+                return playable ? new PgnGame(tags, board, result) : null;
+            }
+            playable = playable && play(board, token);
+        }
+        return playable ? new PgnGame(tags, board, "*") : null;
+    }
+
+    // EFFECTS: returns a board in the position given by the FEN tag, or in the starting position if there is none;
+    //          returns null if the FEN tag is invalid
+    private static Board startingBoard(Map<String, String> tags) {
+        if (!tags.containsKey("FEN")) {
+            return new Board();
+        }
+        try {
+            return Board.fromFen(tags.get("FEN"));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // MODIFIES: board
+    // EFFECTS: plays the move written in SAN on board and returns true, or returns false if it is not a legal move
+    private boolean play(Board board, CharSequence san) {
+        int move = San.parse(board.getPosition(), san, moveBuffer);
+        if (move == Moves.NONE) {
+            return false;
+        }
+        board.makeMove(Bitboards.nameOf(Moves.from(move)), Bitboards.nameOf(Moves.to(move)));
+        return true;
+    }
+
+    // EFFECTS: returns the result constant that text spells, or null if it is not a result
+    private static String resultOf(CharSequence text) {
+        for (String result : RESULTS) {
+            if (result.contentEquals(text)) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the next move or result of the movetext into token, without its move number, and returns true;
+    //          returns false, leaving the stream there, at the end of the stream or the start of the next game's tags
+    private boolean nextToken() throws IOException {
+        while (true) {
+            int c = skipSpace();
+            if (c == END || c == '[') {
+                return false;
+            }
+            read();
+            if (c == '{') {
+                skipPast('}');
+            } else if (c == ';') {
+                skipPast('\n');
+            } else if (c == '(') {
+                skipVariation();
+            } else {
+                readWord(c);
+                // numeric annotation glyphs ($1) and stand-alone annotations (!, ?!) are not moves
+                if (c != '$' && c != '!' && c != '?' && token.length() > 0) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads a word starting with the character first into token, dropping any move number before it
+    private void readWord(int first) throws IOException {
+        token.setLength(0);
+        token.append((char) first);
+        for (int c = peek(); c != END && !Character.isWhitespace(c) && "{}();[".indexOf(c) < 0; c = peek()) {
+            token.append((char) read());
+        }
+        int dot = token.lastIndexOf(".");
+        if (dot >= 0 && Character.isDigit(token.charAt(0))) {
+            token.delete(0, dot + 1);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: skips a variation whose opening '(' has been read, including any nested variations and comments
+    private void skipVariation() throws IOException {
+        int depth = 1;
+        while (depth > 0) {
+            int c = read();
+            if (c == END) {
+                return;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '{') {
+                skipPast('}');
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: skips characters up to and including the next occurrence of end
+    private void skipPast(char end) throws IOException {
+        int c = read();
+        while (c != END && c != end) {
+            c = read();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: skips whitespace and returns the next character without consuming it, or END
+    private int skipSpace() throws IOException {
+        while (peek() != END && Character.isWhitespace(peek())) {
+            read();
+        }
+        return peek();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the next character without consuming it, or END
+    private int peek() throws IOException {
+        if (peeked == NOTHING_PEEKED) {
+            peeked = source.read();
+        }
+        return peeked;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next character, or END
+    private int read() throws IOException {
+        int c = peek();
+        peeked = NOTHING_PEEKED;
+        return c;
+    }
+
+    // ===== getters =====
+    // EFFECTS: returns the number of games skipped so far because they could not be replayed
+    public int getSkippedGames() {
+        return skippedGames;
+    }
+}
@@ -0,0 +1,131 @@
+package persistence;
+
+import model.Board;
+import model.Move;
+import model.bitboard.Bitboards;
+import model.bitboard.Fen;
+import model.bitboard.MoveGenerator;
+import model.bitboard.Position;
+import model.bitboard.San;
+import model.enums.Type;
+
+import java.io.BufferedWriter;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+// Represents a writer that appends games to a PGN file one at a time. Moves are written as Move.getFormattedMove()
+// gives them, with the origin file or rank added where another piece of the same kind could reach the same square,
+// so that the file can be read back by PgnReader and other PGN tools.
+public class PgnWriter {
+    private static final int LINE_LENGTH = 80;
+    private static final String[] SEVEN_TAG_ROSTER = {"Event", "Site", "Date", "Round", "White", "Black", "Result"};
+    private static final String[] ROSTER_DEFAULTS = {"?", "?", "????.??.??", "?", "?", "?", "*"};
+
+    private final String destination;
+    private PrintWriter writer;
+    private final int[] moveBuffer = new int[MoveGenerator.MAX_MOVES];
+
+    // EFFECTS: constructs writer to write to destination file
+    public PgnWriter(String destination) {
+        this.destination = destination;
+    }
+
+    // EFFECTS: constructs writer that writes to the given, already open, character stream
+    public PgnWriter(Writer out) {
+        this.destination = null;
+        this.writer = new PrintWriter(out);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens writer; throws FileNotFoundException if destination file cannot be opened for writing
+    public void open() throws FileNotFoundException {
+        writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(destination),
+                StandardCharsets.UTF_8)));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the game's tag pairs, starting with the seven tag roster, then its moves and result
+    public void write(PgnGame game) {
+        Map<String, String> tags = game.getTags();
+        for (int i = 0; i < SEVEN_TAG_ROSTER.length; i++) {
+            String name = SEVEN_TAG_ROSTER[i];
+            String value = name.equals("Result") ? game.getResult() : tags.getOrDefault(name, ROSTER_DEFAULTS[i]);
+            writeTag(name, value);
+        }
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            if (!List.of(SEVEN_TAG_ROSTER).contains(tag.getKey())) {
+                writeTag(tag.getKey(), tag.getValue());
+            }
+        }
+        writer.println();
+        writeMovetext(game);
+        writer.println();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes one tag pair, escaping quotes and backslashes in its value
+    private void writeTag(String name, String value) {
+        writer.println("[" + name + " \"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"]");
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the numbered moves of the game followed by its result, wrapped at LINE_LENGTH characters
+    private void writeMovetext(PgnGame game) {
+        Position replay = new Position();
+        Fen.parse(game.getTags().getOrDefault("FEN", Fen.STARTING_POSITION), replay);
+        StringBuilder line = new StringBuilder();
+        int number = 1;
+        boolean first = true;
+        for (Move move : game.getBoard().getMoveList().getAllMoves()) {
+            boolean white = replay.getSideToMove() == Position.WHITE;
+            if (white || first) {
+                append(line, number + (white ? "." : "..."));
+            }
+            append(line, formatMove(replay, move));
+            number += white ? 0 : 1;
+            first = false;
+        }
+        append(line, game.getResult());
+        writer.println(line);
+    }
+
+    // MODIFIES: replay
+    // EFFECTS: returns the move as written by Move.getFormattedMove(), disambiguated against the replayed position,
+    //          and plays it on the replayed position
+    private String formatMove(Position replay, Move move) {
+        int from = Bitboards.squareOf(move.getFromPos());
+        int to = Bitboards.squareOf(move.getToPos());
+        int packed = MoveGenerator.encodeMove(replay, from, to);
+        String san = move.getFormattedMove();
+        if (move.getFromType() != Type.PAWN) {
+            san = san.charAt(0) + San.disambiguation(replay, packed, moveBuffer) + san.substring(1);
+        }
+        replay.makeMove(packed);
+        return san;
+    }
+
+    // MODIFIES: this, line
+    // EFFECTS: adds a token to the current movetext line, first writing the line out if the token would not fit
+    private void append(StringBuilder line, String token) {
+        if (line.length() > 0 && line.length() + 1 + token.length() > LINE_LENGTH) {
+            writer.println(line);
+            line.setLength(0);
+        }
+        if (line.length() > 0) {
+            line.append(' ');
+        }
+        line.append(token);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: flushes and closes writer
+    public void close() {
+        writer.close();
+    }
+}
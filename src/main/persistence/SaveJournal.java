@@ -0,0 +1,239 @@
+package persistence;
+
+import model.Board;
+import model.Move;
+import model.bitboard.Bitboards;
+import model.bitboard.MoveGenerator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+// Represents an incremental save of one game: a snapshot of the board written by JsonWriter, plus a journal file
+// next to it (snapshot path + ".journal") to which the moves made since the snapshot are appended, two bytes each.
+// Saving a game that has only moved on since the last save costs one small append instead of rewriting the board.
+//
+// Appends reach the disk in batches, like a write-ahead log: the journal is forced once syncBatch moves are pending
+// and by sync() and close(). After compactAfter journaled moves, or when a different board or a taken-back move is
+// saved, the board is compacted into a new snapshot, which is written to a temporary file, forced and renamed over
+// the old one before the journal is reset. The journal's header names the snapshot it extends by position key and
+// move count, so a journal left behind by a crash during compaction is ignored rather than replayed twice. Loading
+// replays the journal onto the snapshot and drops any torn or invalid tail.
+public class SaveJournal implements Closeable {
+    public static final int DEFAULT_SYNC_BATCH = 8;
+    public static final int DEFAULT_COMPACT_AFTER = 256;
+    private static final byte[] MAGIC = {'T', 'C', 'G', 'J'};
+    private static final int VERSION = 1;
+    // magic, version, snapshot position key, snapshot move count
+    private static final int HEADER_BYTES = 4 + 1 + 8 + 4;
+    private static final int RECORD_BYTES = 2;
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final int syncBatch;
+    private final int compactAfter;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+    private FileChannel journal;
+    private Object journaledGame;
+    private int journaledMoves;
+    // the last move journaled, or null if there is none, to notice moves that were taken back and replaced
+    private Move lastJournaledMove;
+    private int records;
+    private int unsynced;
+
+    // EFFECTS: constructs a journal saving to the snapshot file at snapshotPath, with the default batch sizes
+    public SaveJournal(String snapshotPath) {
+        this(snapshotPath, DEFAULT_SYNC_BATCH, DEFAULT_COMPACT_AFTER);
+    }
+
+    // REQUIRES: syncBatch >= 1 and compactAfter >= 0
+    // EFFECTS: constructs a journal saving to the snapshot file at snapshotPath that forces the journal to disk every
+    //          syncBatch moves and compacts it into a new snapshot after compactAfter moves
+    public SaveJournal(String snapshotPath, int syncBatch, int compactAfter) {
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.journalPath = Paths.get(snapshotPath + ".journal");
+        this.syncBatch = syncBatch;
+        this.compactAfter = compactAfter;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves board, appending only the moves made since it was last saved or loaded through this journal
+    //          where possible and compacting otherwise; throws IOException if it cannot be written
+    public void save(Board board) throws IOException {
+        save(board, board);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves board as the current state of game, which is board itself or the board it is a copy of; only
+    //          the moves made since game was last saved or loaded are appended where possible
+    void save(Object game, Board board) throws IOException {
+        List<Move> moves = board.getMoveList().getAllMoves();
+        if (game != journaledGame || moves.size() < journaledMoves || !extendsJournaled(moves)
+                || records + moves.size() - journaledMoves > compactAfter) {
+            compact(board);
+            journaledGame = game;
+            return;
+        }
+        for (int i = journaledMoves; i < moves.size(); i++) {
+            append(moves.get(i));
+        }
+        journaledMoves = moves.size();
+        lastJournaledMove = moves.isEmpty() ? null : moves.get(moves.size() - 1);
+        if (unsynced >= syncBatch) {
+            sync();
+        }
+    }
+
+    // REQUIRES: moves.size() >= journaledMoves
+    // EFFECTS: returns true if moves still starts with the moves journaled, i.e. none of them was taken back
+    private boolean extendsJournaled(List<Move> moves) {
+        return journaledMoves == 0 || moves.get(journaledMoves - 1) == lastJournaledMove;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends a record of move to the journal
+    private void append(Move move) throws IOException {
+        int from = Bitboards.squareOf(move.getFromPos());
+        int to = Bitboards.squareOf(move.getToPos());
+        record.clear();
+        record.putShort((short) (from | to << 6)).flip();
+        while (record.hasRemaining()) {
+            journal.write(record);
+        }
+        records++;
+        unsynced++;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forces all appended moves to disk; throws IOException if they cannot be written
+    public void sync() throws IOException {
+        if (unsynced > 0) {
+            journal.force(false);
+            unsynced = 0;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes board as the new snapshot and starts an empty journal extending it; throws IOException if they
+    //          cannot be written
+    public void compact(Board board) throws IOException {
+        Path temporary = Paths.get(snapshotPath + ".tmp");
+        JsonWriter writer = new JsonWriter(temporary.toString());
+        writer.open();
+        writer.write(board);
+        writer.close();
+        try (FileChannel written = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            written.force(true);
+        }
+        Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        resetJournal(board);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces the journal with an empty one extending the snapshot of board, and journals board from now on
+    private void resetJournal(Board board) throws IOException {
+        closeJournal();
+        journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.put(MAGIC).put((byte) VERSION);
+        header.putLong(board.positionKey()).putInt(board.getMoveList().getAllMoves().size()).flip();
+        while (header.hasRemaining()) {
+            journal.write(header);
+        }
+        journal.force(false);
+        startJournaling(board, 0);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: journals board from now on, with records moves already in the journal
+    private void startJournaling(Board board, int records) {
+        this.journaledGame = board;
+        List<Move> moves = board.getMoveList().getAllMoves();
+        this.journaledMoves = moves.size();
+        this.lastJournaledMove = moves.isEmpty() ? null : moves.get(moves.size() - 1);
+        this.records = records;
+        this.unsynced = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the snapshot, replays the journal onto it if the journal extends it, and returns the board;
+    //          later saves of that board append to the journal. Throws IOException if the snapshot cannot be read.
+    public Board load() throws IOException {
+        Board board = new JsonReader(snapshotPath.toString()).read();
+        byte[] data = Files.exists(journalPath) ? Files.readAllBytes(journalPath) : new byte[0];
+        if (!extendsSnapshot(data, board)) {
+            resetJournal(board);
+            return board;
+        }
+        int replayed = 0;
+        ByteBuffer in = ByteBuffer.wrap(data, HEADER_BYTES, data.length - HEADER_BYTES);
+        while (in.remaining() >= RECORD_BYTES && replay(board, in.getShort())) {
+            replayed++;
+        }
+        closeJournal();
+        journal = FileChannel.open(journalPath, StandardOpenOption.WRITE);
+        journal.truncate(HEADER_BYTES + (long) replayed * RECORD_BYTES);
+        journal.position(journal.size());
+        startJournaling(board, replayed);
+        return board;
+    }
+
+    // EFFECTS: returns true if data is a journal whose header names the snapshot that board was read from
+    private static boolean extendsSnapshot(byte[] data, Board board) {
+        if (data.length < HEADER_BYTES || !Arrays.equals(Arrays.copyOf(data, MAGIC.length), MAGIC)) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.wrap(data, MAGIC.length, HEADER_BYTES - MAGIC.length);
+        return header.get() == VERSION && header.getLong() == board.positionKey()
+                && header.getInt() == board.getMoveList().getAllMoves().size();
+    }
+
+    // MODIFIES: board
+    // EFFECTS: plays the journaled move on board and returns true, or returns false if it is not a legal move
+    private boolean replay(Board board, short record) {
+        int from = record & 63;
+        int to = (record & 0xffff) >>> 6 & 63;
+        if (board.getGameOver() || !MoveGenerator.isLegal(board.getPosition(), from, to)) {
+            return false;
+        }
+        board.makeMove(Bitboards.nameOf(from), Bitboards.nameOf(to));
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forces any appended moves to disk and closes the journal file; throws IOException if they cannot be
+    //          written
+    @Override
+    public void close() throws IOException {
+        closeJournal();
+        journaledGame = null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forces any appended moves to disk and closes the journal file if it is open
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            try {
+                sync();
+            } finally {
+                journal.close();
+                journal = null;
+            }
+        }
+    }
+
+    // ===== getters =====
+    // EFFECTS: returns the number of moves in the journal since the last snapshot
+    public int getJournaledRecords() {
+        return records;
+    }
+}
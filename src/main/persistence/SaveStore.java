@@ -0,0 +1,163 @@
+package persistence;
+
+import model.Board;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+// Represents a store of many named saved games in one directory. Each game is a file in the binary format of
+// BinaryGameWriter named after the save (name + ".tcg"), and a small index file (index.tsv) holds one line per save
+// with its SaveSummary: turn, move count, game over flag, creation and update times and position key. Listing and
+// filtering saves only reads the index, which is loaded once when the store is opened, and loading a game opens just
+// its own file. Game files and the index are written to a temporary file first and renamed into place, so a crash
+// never leaves either half written. A store whose index is missing rebuilds it from the game files.
+public class SaveStore {
+    public static final String INDEX_FILE = "index.tsv";
+    private static final String INDEX_HEADER = "# two-chess save index v1";
+    private static final String GAME_SUFFIX = ".tcg";
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final Path directory;
+    private final Map<String, SaveSummary> index = new TreeMap<>();
+
+    // EFFECTS: constructs a store keeping its games in directory
+    public SaveStore(String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: creates the directory if needed and reads the index, rebuilding it from the game files if it is
+    //          missing; throws IOException if they cannot be read or the index is malformed
+    public void open() throws IOException {
+        Files.createDirectories(directory);
+        index.clear();
+        Path indexPath = directory.resolve(INDEX_FILE);
+        if (!Files.exists(indexPath)) {
+            rebuildIndex();
+            return;
+        }
+        List<String> lines = Files.readAllLines(indexPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(INDEX_HEADER)) {
+            throw new IOException("Not a save index: " + indexPath);
+        }
+        try {
+            for (String line : lines.subList(1, lines.size())) {
+                SaveSummary summary = SaveSummary.fromIndexLine(line);
+                index.put(summary.getName(), summary);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Malformed save index: " + indexPath, e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: indexes every game file in the directory, using its modification time as both of its times
+    private void rebuildIndex() throws IOException {
+        try (DirectoryStream<Path> games = Files.newDirectoryStream(directory, "*" + GAME_SUFFIX)) {
+            for (Path game : games) {
+                String file = game.getFileName().toString();
+                String name = file.substring(0, file.length() - GAME_SUFFIX.length());
+                Board board = new BinaryGameReader(game.toString()).read();
+                long modified = Files.getLastModifiedTime(game).toMillis();
+                index.put(name, SaveSummary.of(name, board, modified, modified));
+            }
+        }
+        writeIndex();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves board under name, replacing any game saved under that name but keeping its creation time, and
+    //          returns its summary; throws IllegalArgumentException if name is not 1 to 64 letters, digits, '_' or
+    //          '-', or IOException if the game cannot be written
+    public SaveSummary save(String name, Board board) throws IOException {
+        checkName(name);
+        writeAtomically(gamePath(name), BinaryGameWriter.toBytes(board));
+        long now = System.currentTimeMillis();
+        SaveSummary previous = index.get(name);
+        SaveSummary summary = SaveSummary.of(name, board, previous == null ? now : previous.getCreatedMillis(), now);
+        index.put(name, summary);
+        writeIndex();
+        return summary;
+    }
+
+    // EFFECTS: returns the game saved under name, reading only its own file; throws IOException if there is no such
+    //          save or it cannot be read
+    public Board load(String name) throws IOException {
+        if (!index.containsKey(name)) {
+            throw new IOException("No game saved as " + name);
+        }
+        return new BinaryGameReader(gamePath(name).toString()).read();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: deletes the game saved under name and returns true, or returns false if there is none; throws
+    //          IOException if it cannot be deleted
+    public boolean delete(String name) throws IOException {
+        if (index.remove(name) == null) {
+            return false;
+        }
+        writeIndex();
+        Files.deleteIfExists(gamePath(name));
+        return true;
+    }
+
+    // EFFECTS: returns the summaries of all saves, ordered by name
+    public List<SaveSummary> list() {
+        return new ArrayList<>(index.values());
+    }
+
+    // EFFECTS: returns the summaries of the saves that filter accepts, ordered by name
+    public List<SaveSummary> list(Predicate<SaveSummary> filter) {
+        List<SaveSummary> res = new ArrayList<>();
+        for (SaveSummary summary : index.values()) {
+            if (filter.test(summary)) {
+                res.add(summary);
+            }
+        }
+        return res;
+    }
+
+    // EFFECTS: returns the summary of the save with the given name, or null if there is none
+    public SaveSummary getSummary(String name) {
+        return index.get(name);
+    }
+
+    // EFFECTS: writes the index file from the summaries in memory
+    private void writeIndex() throws IOException {
+        StringBuilder text = new StringBuilder(INDEX_HEADER).append('\n');
+        for (SaveSummary summary : index.values()) {
+            text.append(summary.toIndexLine()).append('\n');
+        }
+        writeAtomically(directory.resolve(INDEX_FILE), text.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // EFFECTS: replaces the file at path with data by writing a temporary file and renaming it
+    private void writeAtomically(Path path, byte[] data) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temporary, data);
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // EFFECTS: returns the path of the game file of the save with the given name
+    private Path gamePath(String name) {
+        return directory.resolve(name + GAME_SUFFIX);
+    }
+
+    // EFFECTS: throws IllegalArgumentException if name is not a valid save name
+    private static void checkName(String name) {
+        if (!VALID_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid save name: " + name);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package persistence;
+
+import model.Board;
+import model.enums.Side;
+
+// Immutable summary of a game saved in a SaveStore, as recorded in the store's index, so saves can be listed and
+// filtered without reading the games themselves
+public class SaveSummary {
+    private final String name;
+    private final Side currentTurn;
+    private final int moveCount;
+    private final boolean gameOver;
+    private final long createdMillis;
+    private final long updatedMillis;
+    private final long positionKey;
+
+    // EFFECTS: creates a summary of the save with the given name and details; times are in milliseconds since the
+    //          epoch
+    public SaveSummary(String name, Side currentTurn, int moveCount, boolean gameOver, long createdMillis,
+                       long updatedMillis, long positionKey) {
+        this.name = name;
+        this.currentTurn = currentTurn;
+        this.moveCount = moveCount;
+        this.gameOver = gameOver;
+        this.createdMillis = createdMillis;
+        this.updatedMillis = updatedMillis;
+        this.positionKey = positionKey;
+    }
+
+    // EFFECTS: returns a summary of board saved under name, created at createdMillis and updated at updatedMillis
+    public static SaveSummary of(String name, Board board, long createdMillis, long updatedMillis) {
+        return new SaveSummary(name, board.getCurrentTurn(), board.getMoveList().getAllMoves().size(),
+                board.getGameOver(), createdMillis, updatedMillis, board.positionKey());
+    }
+
+    // EFFECTS: returns this summary as a line of the index file: its fields separated by tabs
+    String toIndexLine() {
+        return String.join("\t", name, currentTurn.toString(), Integer.toString(moveCount),
+                Boolean.toString(gameOver), Long.toString(createdMillis), Long.toString(updatedMillis),
+                Long.toHexString(positionKey));
+    }
+
+    // EFFECTS: returns the summary written as line by toIndexLine; throws IllegalArgumentException if line is not one
+    static SaveSummary fromIndexLine(String line) {
+        String[] fields = line.split("\t");
+        if (fields.length != 7) {
+            throw new IllegalArgumentException("Invalid save index line: " + line);
+        }
+        return new SaveSummary(fields[0], Side.valueOf(fields[1]), Integer.parseInt(fields[2]),
+                Boolean.parseBoolean(fields[3]), Long.parseLong(fields[4]), Long.parseLong(fields[5]),
+                Long.parseUnsignedLong(fields[6], 16));
+    }
+
+    // ===== getters =====
+    public String getName() {
+        return name;
+    }
+
+    public Side getCurrentTurn() {
+        return currentTurn;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public boolean getGameOver() {
+        return gameOver;
+    }
+
+    public long getCreatedMillis() {
+        return createdMillis;
+    }
+
+    public long getUpdatedMillis() {
+        return updatedMillis;
+    }
+
+    public long getPositionKey() {
+        return positionKey;
+    }
+}
@@ -0,0 +1,94 @@
+package server;
+
+import model.PositionSnapshot;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Hosts many games at once without a user interface. Each game is a GameSession kept in a concurrent map under an id
+// of its own, and requests are handled on a shared pool of worker threads, one per processor by default, so ten
+// thousand open sessions cost memory but no threads. Every session has a mailbox through which its requests run one at
+// a time in the order they were submitted, so a game needs no locks, while different games run in parallel on all the
+// workers.
+public class GameServer {
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ExecutorService workers;
+
+    // EFFECTS: creates a server with one worker thread per available processor
+    public GameServer() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    // REQUIRES: threads >= 1
+    // EFFECTS: creates a server handling move requests on the given number of worker threads
+    public GameServer(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "game-server-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens a session holding a new game and returns its id
+    public long createSession() {
+        long id = nextId.getAndIncrement();
+        sessions.put(id, new GameSession(id, workers));
+        return id;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the session with the given id and returns true, or returns false if there is none
+    public boolean closeSession(long id) {
+        return sessions.remove(id) != null;
+    }
+
+    // EFFECTS: returns the number of open sessions
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    // EFFECTS: returns the current snapshot of the game in the session with the given id, or null if the session is
+    //          not open; reads the game without waiting for its requests
+    public PositionSnapshot getSnapshot(long id) {
+        GameSession session = sessions.get(id);
+        return session == null ? null : session.getSnapshot();
+    }
+
+    // EFFECTS: asks for the move from fromPos to toPos in the session with the given id; the returned future
+    //          completes with the result, which is NO_SUCH_SESSION if the session is not open
+    public CompletableFuture<MoveResult> submitMove(long id, String fromPos, String toPos) {
+        GameSession session = sessions.get(id);
+        if (session == null) {
+            return CompletableFuture.completedFuture(new MoveResult(MoveStatus.NO_SUCH_SESSION, null, false, 0));
+        }
+        return session.submit(game -> game.move(fromPos, toPos));
+    }
+
+    // EFFECTS: runs request on the session with the given id after the requests already submitted to it; the
+    //          returned future completes with its result, or exceptionally with an IllegalArgumentException if the
+    //          session is not open
+    public <T> CompletableFuture<T> submit(long id, Function<GameSession, T> request) {
+        GameSession session = sessions.get(id);
+        if (session == null) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            result.completeExceptionally(new IllegalArgumentException("No such session: " + id));
+            return result;
+        }
+        return session.submit(request);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: finishes the requests already submitted and releases the worker threads
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
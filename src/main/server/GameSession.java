@@ -0,0 +1,117 @@
+package server;
+
+import model.Board;
+import model.EventLog;
+import model.PositionSnapshot;
+import model.bitboard.Bitboards;
+import model.bitboard.MoveGenerator;
+import model.enums.Side;
+import model.pieces.Piece;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+// One game hosted by a GameServer. The session owns its board and a small event log of its own, so sessions share no
+// mutable state and any number of them can be played side by side. Requested moves are checked for legality before
+// they are played. A session is not thread-safe: the server only uses it from the tasks of
+// its mailbox, which run one at a time, so a session needs no locks. Spectators read the game from any thread through
+// getSnapshot, without going through the mailbox.
+public class GameSession {
+    public static final int EVENT_LOG_CAPACITY = 64;
+    private final long id;
+    private final Board board = new Board();
+    private final EventLog eventLog = new EventLog(EVENT_LOG_CAPACITY);
+    private final Mailbox mailbox;
+
+    // EFFECTS: creates a session with the given id holding a new game, whose requests run on executor
+    public GameSession(long id, Executor executor) {
+        this.id = id;
+        this.mailbox = new Mailbox(executor);
+        board.setEventLog(eventLog);
+    }
+
+    // EFFECTS: runs request on this session after the requests submitted before it; the returned future completes
+    //          with its result, or exceptionally with what it throws
+    public <T> CompletableFuture<T> submit(Function<GameSession, T> request) {
+        return CompletableFuture.supplyAsync(() -> request.apply(this), mailbox);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: plays the move from fromPos to toPos if it is legal for the turn player and returns the result;
+    //          otherwise leaves the game as it is and returns why the move was refused
+    public MoveResult move(String fromPos, String toPos) {
+        MoveStatus status = checkMove(fromPos, toPos);
+        if (status == MoveStatus.PLAYED) {
+            board.makeMove(fromPos, toPos);
+        }
+        return new MoveResult(status, board.getCurrentTurn(), board.getGameOver(), getMoveCount());
+    }
+
+    // EFFECTS: returns PLAYED if the move from fromPos to toPos is legal, otherwise the reason it is not
+    private MoveStatus checkMove(String fromPos, String toPos) {
+        if (board.getGameOver()) {
+            return MoveStatus.GAME_OVER;
+        }
+        Piece piece = board.getPiece(fromPos);
+        if (piece == null) {
+            return MoveStatus.NO_PIECE;
+        }
+        if (piece.getSide() != board.getCurrentTurn()) {
+            return MoveStatus.NOT_YOUR_TURN;
+        }
+        int to = Bitboards.squareOf(toPos);
+        if (to < 0 || !MoveGenerator.isLegal(board.getPosition(), Bitboards.squareOf(fromPos), to)) {
+            return MoveStatus.ILLEGAL_MOVE;
+        }
+        return MoveStatus.PLAYED;
+    }
+
+    // EFFECTS: returns the legal moves of the turn player, mapping the square of each piece that can move to the
+    //          squares it can move to, e.g. {"e2": ["e3", "e4"], ...}
+    public Map<String, List<String>> getLegalMoves() {
+        Map<String, List<String>> res = new LinkedHashMap<>();
+        for (String pos : board.getAvailableCoords()) {
+            List<String> moves = board.getPiece(pos).getLegalMoves();
+            if (!moves.isEmpty()) {
+                res.put(pos, moves);
+            }
+        }
+        return res;
+    }
+
+    // EFFECTS: returns the FEN record of the current position
+    public String toFen() {
+        return board.toFen();
+    }
+
+    // ===== getters =====
+    public long getId() {
+        return id;
+    }
+
+    public Side getCurrentTurn() {
+        return board.getCurrentTurn();
+    }
+
+    public boolean getGameOver() {
+        return board.getGameOver();
+    }
+
+    public int getMoveCount() {
+        return board.getMoveList().getAllMoves().size();
+    }
+
+    // EFFECTS: returns an immutable snapshot of the game as of its last move; may be called from any thread
+    public PositionSnapshot getSnapshot() {
+        return board.getSnapshot();
+    }
+
+    // EFFECTS: returns the log of this session's events
+    public EventLog getEventLog() {
+        return eventLog;
+    }
+}
@@ -0,0 +1,75 @@
+package server;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// A lightweight actor: runs the tasks posted to it one at a time, in the order they were posted, on a shared executor.
+// A mailbox takes a thread of the executor only while it has tasks waiting, so thousands of mailboxes can share a pool
+// of a few threads, and the state its tasks touch needs no locks: each task sees everything the earlier ones did.
+// Posting takes no lock either, only a queue insert and an atomic counter. To keep the pool fair between mailboxes, a
+// busy mailbox hands its thread back after BATCH tasks and queues itself again behind the others.
+public class Mailbox implements Executor {
+    public static final int BATCH = 64;
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    // tasks posted and not yet run; the poster that raises it from zero schedules the mailbox
+    private final AtomicInteger pending = new AtomicInteger();
+
+    // EFFECTS: creates an empty mailbox running its tasks on executor
+    public Mailbox(Executor executor) {
+        this.executor = executor;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: posts task to run after every task posted before it; a task that throws, even an Error, is reported to
+    //          the uncaught exception handler of the thread running it and the mailbox carries on. Throws
+    //          RejectedExecutionException if the executor rejects the mailbox, in which case task and any tasks
+    //          posted alongside it are dropped and the next post schedules the mailbox again.
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        if (pending.getAndIncrement() == 0) {
+            schedule();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs up to BATCH waiting tasks in order, then schedules the mailbox again if tasks are still waiting
+    private void drain() {
+        for (int i = 0; i < BATCH; i++) {
+            run(tasks.poll());
+            if (pending.decrementAndGet() == 0) {
+                return;
+            }
+        }
+        schedule();
+    }
+
+    // REQUIRES: the caller raised pending from zero or is draining the mailbox
+    // MODIFIES: this
+    // EFFECTS: submits the mailbox to the executor; if it is rejected, drops the waiting tasks until pending is back
+    //          at zero, so the mailbox is not left counted as scheduled, and rethrows
+    private void schedule() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            do {
+                tasks.poll();
+            } while (pending.decrementAndGet() != 0);
+            throw e;
+        }
+    }
+
+    // EFFECTS: runs task, reporting what it throws to the uncaught exception handler of the current thread
+    private static void run(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable e) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+}
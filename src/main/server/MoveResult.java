@@ -0,0 +1,42 @@
+package server;
+
+import model.enums.Side;
+
+// Immutable answer to a move request: whether the move was played and the state of the game afterwards
+public class MoveResult {
+    private final MoveStatus status;
+    private final Side currentTurn;
+    private final boolean gameOver;
+    private final int moveCount;
+
+    // EFFECTS: creates a result with the given status, turn player, game over flag and number of moves played
+    public MoveResult(MoveStatus status, Side currentTurn, boolean gameOver, int moveCount) {
+        this.status = status;
+        this.currentTurn = currentTurn;
+        this.gameOver = gameOver;
+        this.moveCount = moveCount;
+    }
+
+    // EFFECTS: returns true if the move was played
+    public boolean isPlayed() {
+        return status == MoveStatus.PLAYED;
+    }
+
+    // ===== getters =====
+    public MoveStatus getStatus() {
+        return status;
+    }
+
+    // EFFECTS: returns the player to move after the request, or null if there was no such session
+    public Side getCurrentTurn() {
+        return currentTurn;
+    }
+
+    public boolean getGameOver() {
+        return gameOver;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+}
@@ -0,0 +1,6 @@
+package server;
+
+// Outcome of a move requested from a game session: played, or the reason it was refused
+public enum MoveStatus {
+    PLAYED, GAME_OVER, NO_PIECE, NOT_YOUR_TURN, ILLEGAL_MOVE, NO_SUCH_SESSION
+}
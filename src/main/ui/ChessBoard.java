@@ -67,6 +67,9 @@ public class ChessBoard {
         return new MouseAdapter() {
             @Override
             public void mousePressed(MouseEvent e) {
+                if (controller.isComputerTurn()) {
+                    return;
+                }
                 Square clickedSquare = (Square) e.getSource();
                 String coord = clickedSquare.getCoordinate();
                 Piece p = chessGame.getPiece(coord);
@@ -87,7 +90,7 @@ public class ChessBoard {
 
     // MODIFIES: this
     // EFFECTS: update the renders of the entire board
-    private void render() {
+    public void render() {
         List<String> legalMoves = selectedPiece == null ? new ArrayList<>() : selectedPiece.getLegalMoves();
 
 //        if (selectedPiece != null) {
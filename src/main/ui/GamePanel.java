@@ -1,6 +1,7 @@
 package ui;
 
 import model.Move;
+import model.enums.Side;
 
 import javax.swing.*;
 import ui.customcomponents.MoveLabel;
@@ -34,6 +35,10 @@ public class GamePanel implements ActionListener {
         gamePanel.add(movesPanel);
         movesPanel.setAlignmentX(Component.CENTER_ALIGNMENT);
 
+        JCheckBox computerOption = createComputerOption();
+        gamePanel.add(computerOption);
+        computerOption.setAlignmentX(Component.CENTER_ALIGNMENT);
+
 //        JButton resetButton = createResetButton();
 //        gamePanel.add(resetButton);
 //        resetButton.setAlignmentX(Component.CENTER_ALIGNMENT);
@@ -132,6 +137,14 @@ public class GamePanel implements ActionListener {
         return optionsList;
     }
 
+    // EFFECTS: constructs checkbox for letting the computer play Black
+    private JCheckBox createComputerOption() {
+        JCheckBox computerOption = new JCheckBox("Computer plays Black");
+        computerOption.setSelected(controller.getComputerSide() == Side.BLACK);
+        computerOption.addItemListener(e -> controller.setComputerSide(computerOption.isSelected() ? Side.BLACK : null));
+        return computerOption;
+    }
+
 //    private JButton createResetButton() {
 //        resetButton = new JButton();
 //        resetButton.setText("Reset");
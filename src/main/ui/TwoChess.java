@@ -1,16 +1,20 @@
 package ui;
 
+import engine.ComputerPlayer;
+import engine.SearchResult;
 import model.Board;
+import model.Event;
 import model.EventLog;
+import model.enums.Side;
 import model.pieces.Piece;
-import persistence.JsonReader;
-import persistence.JsonWriter;
+import persistence.AsyncGameStore;
+import persistence.SaveJournal;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.io.FileNotFoundException;
-import java.io.IOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 
 // Game controller of a chess game; manages GUI and logic components
 // Code structure inspired by demo: https://docs.oracle.com/javase/tutorial/displayCode.html?code=https://docs.oracle.com/javase/tutorial/uiswing/examples/layout/BoxLayoutDemoProject/src/layout/BoxLayoutDemo.java
@@ -21,8 +25,13 @@ public class TwoChess {
     private GamePanel gamePanel;
     private Board chessGame;
     private static final String JSON_STORE = "./data/board.json";
-    private JsonWriter jsonWriter = new JsonWriter(JSON_STORE);
-    private JsonReader jsonReader = new JsonReader(JSON_STORE);
+    private final AsyncGameStore gameStore = new AsyncGameStore(new SaveJournal(JSON_STORE),
+            SwingUtilities::invokeLater);
+    private CompletableFuture<Board> pendingLoad; // load in progress, cancelled if a move is made before it finishes
+    private static final long COMPUTER_MOVE_MILLIS = 100;
+    private final ComputerPlayer computer = new ComputerPlayer(COMPUTER_MOVE_MILLIS, SwingUtilities::invokeLater,
+            Runtime.getRuntime().availableProcessors());
+    private Side computerSide; // side played by the computer, or null when both sides are played from the board
 
     // EFFECTS: constructs and renders a new game
     public TwoChess() {
@@ -47,8 +56,52 @@ public class TwoChess {
     // MODIFIES: this
     // EFFECTS: makes move in a game and updates GUI
     public void makeMove(String fromPos, String toPos) {
+        if (pendingLoad != null) {
+            pendingLoad.cancel(false);
+        }
         chessGame.makeMove(fromPos, toPos);
         gamePanel.updateMovesList();
+        requestComputerMove();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the side played by the computer, or null for none, and lets it move if it is now its turn
+    public void setComputerSide(Side side) {
+        this.computerSide = side;
+        computer.stop();
+        requestComputerMove();
+    }
+
+    // EFFECTS: returns true if the computer plays the side whose turn it is
+    public boolean isComputerTurn() {
+        return computerSide != null && chessGame.getCurrentTurn() == computerSide;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: if it is the computer's turn in an unfinished game, starts a search in the background that plays its
+    //          move once done; the event dispatch thread is never blocked
+    private void requestComputerMove() {
+        if (!isComputerTurn() || chessGame.getGameOver()) {
+            return;
+        }
+        Board searchedGame = chessGame;
+        long searchedKey = chessGame.positionKey();
+        computer.think(chessGame, result -> {
+            // the game may have been reloaded or changed while the computer was thinking
+            if (result.hasMove() && chessGame == searchedGame && chessGame.positionKey() == searchedKey
+                    && isComputerTurn()) {
+                playComputerMove(result);
+            }
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: plays the move found by the computer and updates GUI
+    private void playComputerMove(SearchResult result) {
+        EventLog.getInstance().logEvent(new Event("Computer searched " + result.getDepth() + " plies at "
+                + result.getNodesPerSecond() + " nodes/s, score " + result.getScore()));
+        makeMove(result.getFromPos(), result.getToPos());
+        chessBoard.render();
     }
 
     // MODIFIES: this
@@ -70,7 +123,7 @@ public class TwoChess {
     // EFFECTS: constructs main frame of program
     private void initializeFrame() {
         frame = new JFrame("TwoChess");
-        frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        frame.setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
         frame.setSize(800, 700);
         frame.setResizable(false);
         frame.setLocationRelativeTo(null);
@@ -96,13 +149,9 @@ public class TwoChess {
                         "Do you want to save the game?", "Save game?",
                         JOptionPane.YES_NO_OPTION,
                         JOptionPane.QUESTION_MESSAGE) == JOptionPane.YES_OPTION) {
-                    saveBoard();
-                }
-
-                // Print all events to console
-                EventLog eventLog = EventLog.getInstance();
-                for (model.Event event : eventLog) {
-                    System.out.println(event.getDescription());
+                    saveBoard().whenComplete((saved, e) -> closeFrame());
+                } else {
+                    closeFrame();
                 }
             }
         });
@@ -125,41 +174,73 @@ public class TwoChess {
     }
 
 
-    // EFFECTS: saves the current game to file
-    public void saveBoard() {
-        try {
-            jsonWriter.open();
-            jsonWriter.write(chessGame);
-            jsonWriter.close();
-            System.out.println("Saved board to " + JSON_STORE);
-        } catch (FileNotFoundException e) {
-            System.out.println("Unable to write to file: " + JSON_STORE);
+    // MODIFIES: this
+    // EFFECTS: prints all events to console, finishes any save in progress and then closes the window
+    private void closeFrame() {
+        EventLog eventLog = EventLog.getInstance();
+        for (model.Event event : eventLog) {
+            System.out.println(event.getDescription());
         }
+        computer.shutdown();
+        gameStore.shutdown().whenComplete((closed, e) -> frame.dispose());
+    }
+
+    // EFFECTS: saves the current game to file in the background, appending only the moves made since the last save or
+    //          load when the same game was saved or loaded before; the returned future completes on the event
+    //          dispatch thread once the game is saved or the save failed
+    public CompletableFuture<Void> saveBoard() {
+        return gameStore.save(chessGame, this::showProgress).whenComplete((saved, e) -> {
+            showProgress(null);
+            System.out.println(e == null ? "Saved board to " + JSON_STORE : "Unable to write to file: " + JSON_STORE);
+        });
     }
 
     // MODIFIES: this
-    // EFFECTS: loads stored game board into current game
+    // EFFECTS: loads stored game board into current game in the background; the window stays responsive meanwhile,
+    //          and the load is dropped if a move is made before it finishes
     public void loadBoard() {
-        try {
-            Board board = jsonReader.read();
-            this.chessGame = board;
-            this.gamePanel = new GamePanel(this);
-            this.chessBoard = new ChessBoard(this);
-            contentPane = frame.getContentPane();
-            contentPane.removeAll();
-            ((JPanel) contentPane).setBorder(new EmptyBorder(50, 0, 50, 0));
-            addComponentsToPane(contentPane);
-            gamePanel.updateMovesList();
-            frame.revalidate();
-            frame.repaint();
-            System.out.println("Loaded board from " + JSON_STORE);
-        } catch (IOException e) {
-            System.out.println("Unable to read from file: " + JSON_STORE);
-        }
+        pendingLoad = gameStore.load(this::showProgress);
+        pendingLoad.whenComplete((board, e) -> {
+            showProgress(null);
+            pendingLoad = null;
+            if (board != null) {
+                showBoard(board);
+                System.out.println("Loaded board from " + JSON_STORE);
+            } else if (!(e instanceof CancellationException)) {
+                System.out.println("Unable to read from file: " + JSON_STORE);
+            }
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes board the current game and rebuilds the GUI around it
+    private void showBoard(Board board) {
+        this.chessGame = board;
+        this.gamePanel = new GamePanel(this);
+        this.chessBoard = new ChessBoard(this);
+        computer.stop();
+        contentPane = frame.getContentPane();
+        contentPane.removeAll();
+        ((JPanel) contentPane).setBorder(new EmptyBorder(50, 0, 50, 0));
+        addComponentsToPane(contentPane);
+        gamePanel.updateMovesList();
+        frame.revalidate();
+        frame.repaint();
+        requestComputerMove();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: shows a progress message of a save or load in the window title, or clears it if message is null
+    private void showProgress(String message) {
+        frame.setTitle(message == null ? "TwoChess" : "TwoChess - " + message);
     }
 
     // ===== getters =====
     public Board getChessGame() {
         return chessGame;
     }
+
+    public Side getComputerSide() {
+        return computerSide;
+    }
 }
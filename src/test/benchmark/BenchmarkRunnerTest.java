@@ -0,0 +1,56 @@
+package benchmark;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for the micro benchmark runner
+public class BenchmarkRunnerTest {
+
+    @Test
+    public void testRunAndWriteJson() throws Exception {
+        MicroBenchmark counter = new MicroBenchmark("test.counter") {
+            private int setups;
+
+            @Override
+            protected void setup(int operations) {
+                setups++;
+            }
+
+            @Override
+            protected long run(int operations) {
+                long result = 0;
+                for (int i = 0; i < operations; i++) {
+                    result += i ^ setups;
+                }
+                return result;
+            }
+        };
+        BenchmarkRunner runner = new BenchmarkRunner(1, 3, 1);
+        List<BenchmarkResult> results = runner.runAll(Collections.singletonList(counter));
+        assertEquals(1, results.size());
+        assertEquals("test.counter", results.get(0).getName());
+        assertTrue(results.get(0).getMeanNanos() > 0);
+
+        File file = File.createTempFile("bench", ".json");
+        file.deleteOnExit();
+        BenchmarkRunner.writeJson(results, file.getPath());
+        JSONObject json = new JSONObject(new String(Files.readAllBytes(file.toPath())));
+        assertEquals("test.counter", json.getJSONArray("results").getJSONObject(0).getString("benchmark"));
+    }
+
+    @Test
+    public void testBenchmarksCoverEveryPieceType() throws Exception {
+        List<MicroBenchmark> benchmarks = BoardBenchmarks.all();
+        assertEquals(16, benchmarks.size());
+        assertEquals("piece.getLegalMoves.pawn", benchmarks.get(4).getName());
+        assertEquals("piece.getLegalMoves.king", benchmarks.get(9).getName());
+        assertEquals("eval.evaluate", benchmarks.get(10).getName());
+    }
+}
@@ -0,0 +1,49 @@
+package benchmark;
+
+import org.junit.jupiter.api.Test;
+import server.GameServer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for the load generator and the latency histogram it reports from
+class LoadGeneratorTest {
+
+    @Test
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(99));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500, histogram.getMean(), 1e-6);
+        assertEquals(500_000, histogram.getPercentile(50), 500_000 / 32.0);
+        assertEquals(990_000, histogram.getPercentile(99), 990_000 / 32.0);
+        assertEquals(1_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    void testHistogramSmallValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(3);
+        histogram.record(31);
+        assertEquals(0, histogram.getPercentile(30));
+        assertEquals(3, histogram.getPercentile(60));
+        assertEquals(31, histogram.getPercentile(100));
+    }
+
+    @Test
+    void testRun() throws InterruptedException {
+        GameServer server = new GameServer(2);
+        LoadReport report = new LoadGenerator(server, 20).run(200);
+        server.shutdown();
+        assertEquals(20, report.getSessions());
+        assertTrue(report.getMovesPlayed() > 0);
+        assertEquals(report.getMovesPlayed(), report.getRequests());
+        assertTrue(report.getP99Nanos() >= report.getP50Nanos());
+        assertTrue(report.getMovesPerSecond() > 0);
+        assertEquals(0, server.getSessionCount());
+    }
+}
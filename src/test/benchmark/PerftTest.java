@@ -0,0 +1,56 @@
+package benchmark;
+
+import model.Board;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for the perft driver; the reference counts double as a correctness check of the move generator
+public class PerftTest {
+
+    @Test
+    public void testReferencePositions() {
+        try {
+            for (PerftReference reference : PerftReference.standardPositions()) {
+                Board board = reference.loadBoard();
+                for (int depth = 1; depth <= reference.getMaxDepth(); depth++) {
+                    assertEquals(reference.getExpected(depth), Perft.run(board, depth, 1).getNodes(),
+                            reference.getName() + " depth " + depth);
+                }
+            }
+        } catch (IOException e) {
+            fail("Couldn't read reference position");
+        }
+    }
+
+    @Test
+    public void testDivide() {
+        PerftResult result = Perft.run(new Board(), 2, 2);
+        assertEquals(20, result.getDivide().size());
+        assertEquals(20L, result.getDivide().get("e2e4"));
+        assertEquals(400, result.getNodes());
+    }
+
+    @Test
+    public void testPerftLeavesBoardUnchanged() {
+        Board board = new Board();
+        long key = board.positionKey();
+        assertEquals(8902, new Perft(3).perft(board.getPosition(), 3));
+        assertEquals(key, board.positionKey());
+        assertEquals(1, new Perft(3).perft(board.getPosition(), 0));
+    }
+
+    @Test
+    public void testOptions() {
+        PerftOptions options = PerftOptions.parse(new String[] {"5", "./data/board.json", "--threads", "4",
+                "--divide"});
+        assertEquals(5, options.getDepth());
+        assertEquals("./data/board.json", options.getBoardFile());
+        assertEquals(4, options.getThreads());
+        assertTrue(options.isDivide());
+        assertFalse(options.isReference());
+        assertThrows(IllegalArgumentException.class, () -> PerftOptions.parse(new String[] {"--fast"}));
+    }
+}
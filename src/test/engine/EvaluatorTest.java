@@ -0,0 +1,58 @@
+package engine;
+
+import model.Board;
+import model.bitboard.PieceSquareTables;
+import model.enums.Side;
+import model.enums.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for the tapered evaluation
+public class EvaluatorTest {
+    private Board board;
+
+    @BeforeEach
+    public void setup() {
+        board = new Board();
+    }
+
+    @Test
+    public void testStartingPositionIsLevel() {
+        assertEquals(0, Evaluator.evaluate(board));
+        board.setCurrentTurn(Side.BLACK);
+        assertEquals(0, Evaluator.evaluate(board));
+    }
+
+    @Test
+    public void testTablesAreMirrored() {
+        assertEquals(-PieceSquareTables.midgame(Side.WHITE, Type.KNIGHT, "f3"),
+                PieceSquareTables.midgame(Side.BLACK, Type.KNIGHT, "f6"));
+        assertEquals(-PieceSquareTables.endgame(Side.WHITE, Type.PAWN, "e4"),
+                PieceSquareTables.endgame(Side.BLACK, Type.PAWN, "e5"));
+        assertTrue(PieceSquareTables.midgame(Side.WHITE, Type.KNIGHT, "f3")
+                > PieceSquareTables.midgame(Side.WHITE, Type.KNIGHT, "a1"));
+        assertTrue(PieceSquareTables.midgame(Side.WHITE, Type.QUEEN, "d1") > 900);
+    }
+
+    @Test
+    public void testScoreIsFromSideToMove() {
+        board.makeMove("g1", "f3");
+        int forBlack = Evaluator.evaluate(board);
+        assertTrue(forBlack < 0);
+        board.setCurrentTurn(Side.WHITE);
+        assertEquals(-forBlack, Evaluator.evaluate(board));
+    }
+
+    @Test
+    public void testMaterialAdvantage() {
+        board.makeMove("e2", "e4");
+        board.makeMove("d7", "d6");
+        board.makeMove("d1", "g4");
+        board.makeMove("c8", "g4");
+
+        assertTrue(Evaluator.evaluate(board) < -700);
+        assertTrue(board.getPosition().getPhase() < PieceSquareTables.MAX_PHASE);
+    }
+}
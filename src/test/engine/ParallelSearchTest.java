@@ -0,0 +1,73 @@
+package engine;
+
+import model.Board;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for the Lazy SMP parallel search
+public class ParallelSearchTest {
+    private Board board;
+    private ParallelSearch parallel;
+
+    @BeforeEach
+    public void setup() {
+        board = new Board();
+        parallel = new ParallelSearch(4, 4);
+    }
+
+    @AfterEach
+    public void teardown() {
+        parallel.shutdown();
+    }
+
+    @Test
+    public void testSingleThreadIsDeterministic() {
+        ParallelSearch first = new ParallelSearch(1, 1);
+        ParallelSearch second = new ParallelSearch(1, 1);
+        SearchResult a = first.search(board, 4, 10000);
+        SearchResult b = second.search(board, 4, 10000);
+
+        assertEquals(1, first.getThreads());
+        assertEquals(a.getNodes(), b.getNodes());
+        assertEquals(a.getPrincipalVariation(), b.getPrincipalVariation());
+        assertEquals(new Search(new TranspositionTable(1)).search(board, 4, 10000).getNodes(), a.getNodes());
+        first.shutdown();
+        second.shutdown();
+    }
+
+    @Test
+    public void testFindsMateInOne() {
+        board.makeMove("e2", "e4");
+        board.makeMove("e7", "e5");
+        board.makeMove("f1", "c4");
+        board.makeMove("b8", "c6");
+        board.makeMove("d1", "f3");
+        board.makeMove("g7", "g5");
+        long key = board.positionKey();
+
+        SearchResult result = parallel.search(board, ComputerPlayer.MAX_DEPTH, 10000);
+        assertEquals("f3", result.getFromPos());
+        assertEquals("f7", result.getToPos());
+        assertEquals(Search.MATE - 1, result.getScore());
+        assertTrue(result.getNanos() < 5_000_000_000L);
+        assertEquals(key, board.positionKey());
+    }
+
+    @Test
+    public void testThreadStatistics() {
+        SearchResult result = parallel.search(board, ComputerPlayer.MAX_DEPTH, 100);
+        long[] threadNodes = parallel.getThreadNodes();
+        assertEquals(4, threadNodes.length);
+        long total = 0;
+        for (long nodes : threadNodes) {
+            assertTrue(nodes > 0);
+            total += nodes;
+        }
+        assertEquals(total, result.getNodes());
+        assertTrue(result.hasMove());
+        assertTrue(parallel.getTable().getHits() > 0);
+    }
+}
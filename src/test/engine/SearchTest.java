@@ -0,0 +1,144 @@
+package engine;
+
+import model.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for the alpha-beta search and the background computer player
+public class SearchTest {
+    private Board board;
+    private Search search;
+
+    @BeforeEach
+    public void setup() {
+        board = new Board();
+        search = new Search();
+    }
+
+    @Test
+    public void testFindsMateInOne() {
+        board.makeMove("e2", "e4");
+        board.makeMove("e7", "e5");
+        board.makeMove("f1", "c4");
+        board.makeMove("b8", "c6");
+        board.makeMove("d1", "f3");
+        board.makeMove("g7", "g5");
+
+        SearchResult result = search.search(board, 4, 10000);
+        assertEquals("f3", result.getFromPos());
+        assertEquals("f7", result.getToPos());
+        assertTrue(result.isMateScore());
+        assertEquals(Search.MATE - 1, result.getScore());
+    }
+
+    @Test
+    public void testCapturesHangingQueen() {
+        board.makeMove("e2", "e4");
+        board.makeMove("d7", "d6");
+        board.makeMove("d1", "g4");
+
+        long key = board.positionKey();
+        SearchResult result = search.search(board, 3, 10000);
+        assertEquals("c8", result.getFromPos());
+        assertEquals("g4", result.getToPos());
+        assertTrue(result.getScore() > 500);
+        assertEquals(3, result.getDepth());
+        assertEquals(key, board.positionKey());
+    }
+
+    @Test
+    public void testPrincipalVariationIsPlayable() {
+        SearchResult result = search.search(board, 4, 10000);
+        List<String> pv = result.getPrincipalVariation();
+        assertFalse(pv.isEmpty());
+        assertEquals(result.getFromPos() + result.getToPos(), pv.get(0));
+        for (String move : pv) {
+            String from = move.substring(0, 2);
+            String to = move.substring(2, 4);
+            assertTrue(board.getPiece(from).getLegalMoves().contains(to), move);
+            board.makeMove(from, to);
+        }
+    }
+
+    @Test
+    public void testRespectsTimeBudget() {
+        SearchResult result = search.search(board, ComputerPlayer.MAX_DEPTH, 100);
+        assertTrue(result.hasMove());
+        assertTrue(result.getDepth() >= 1 && result.getDepth() < ComputerPlayer.MAX_DEPTH);
+        assertTrue(result.getNanos() < 1_000_000_000L);
+        assertTrue(result.getNodes() > 0);
+        assertTrue(result.getNodesPerSecond() > 0);
+    }
+
+    @Test
+    public void testNoMoveWhenMated() {
+        board.makeMove("f2", "f3");
+        board.makeMove("e7", "e5");
+        board.makeMove("g2", "g4");
+        board.makeMove("d8", "h4");
+
+        SearchResult result = search.search(board, 3, 10000);
+        assertFalse(result.hasMove());
+        assertTrue(result.getPrincipalVariation().isEmpty());
+    }
+
+    @Test
+    public void testHoldsDrawByPerpetualCheck() {
+        // a queen down, White can only save the game by checking from h5 and e8 until the position repeats
+        board = Board.fromFen("8/6pk/8/8/8/1qr5/6PP/3Q3K w - - 0 1");
+
+        SearchResult result = search.search(board, 6, 10000);
+        assertEquals("d1", result.getFromPos());
+        assertEquals("h5", result.getToPos());
+        assertEquals(0, result.getScore());
+    }
+
+    @Test
+    public void testWinningSideAvoidsRepetition() {
+        board = Board.fromFen("4k3/8/8/8/8/8/8/R3K3 w - - 0 1");
+        assertEquals("a7", search.search(board, 4, 10000).getToPos());
+        board.makeMove("a1", "a7");
+        board.makeMove("e8", "d8");
+        board.makeMove("a7", "a1");
+        board.makeMove("d8", "e8");
+
+        SearchResult result = search.search(board, 4, 10000);
+        assertNotEquals("a7", result.getToPos());
+        assertTrue(result.getScore() > 300);
+    }
+
+    @Test
+    public void testComputerPlayerDeliversResult() {
+        List<SearchResult> results = new ArrayList<>();
+        ComputerPlayer computer = new ComputerPlayer(50, Runnable::run);
+        try {
+            computer.think(board, results::add).get();
+        } catch (InterruptedException | ExecutionException e) {
+            fail("Search failed");
+        } finally {
+            computer.shutdown();
+        }
+        assertEquals(1, results.size());
+        assertTrue(board.getPiece(results.get(0).getFromPos()).getLegalMoves()
+                .contains(results.get(0).getToPos()));
+    }
+
+    @Test
+    public void testSharedTableCarriesOverBetweenSearches() {
+        TranspositionTable table = new TranspositionTable(1);
+        SearchResult first = new Search(table).search(board, 4, 10000);
+        long hits = table.getHits();
+        SearchResult second = new Search(table).search(board, 4, 10000);
+
+        assertTrue(table.getHits() > hits);
+        assertTrue(second.getNodes() < first.getNodes());
+        assertEquals(first.getScore(), second.getScore());
+        assertTrue(table.getStores() > 0);
+    }
+}
@@ -0,0 +1,123 @@
+package engine;
+
+import model.bitboard.Moves;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for TranspositionTable
+public class TranspositionTableTest {
+    private TranspositionTable table;
+    private long hash;
+    private long sameSlot;
+
+    @BeforeEach
+    public void setup() {
+        table = new TranspositionTable(1);
+        hash = 0x123456789ABCDEFL;
+        sameSlot = hash + ((long) table.getSize() << 4);
+    }
+
+    @Test
+    public void testConstructor() {
+        assertEquals(65536, table.getSize());
+        assertEquals(ReplacementPolicy.DEPTH_PREFERRED, table.getPolicy());
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(hash));
+        assertEquals(0, table.getHits());
+        assertEquals(1, table.getProbes());
+    }
+
+    @Test
+    public void testStoreAndProbe() {
+        int move = Moves.encode(12, 28, Moves.DOUBLE_PUSH);
+        table.store(hash, move, -Search.MATE + 3, 7, TranspositionTable.BOUND_UPPER);
+
+        long entry = table.probe(hash);
+        assertNotEquals(TranspositionTable.NO_ENTRY, entry);
+        assertEquals(move, TranspositionTable.move(entry));
+        assertEquals(-Search.MATE + 3, TranspositionTable.score(entry));
+        assertEquals(7, TranspositionTable.depth(entry));
+        assertEquals(TranspositionTable.BOUND_UPPER, TranspositionTable.bound(entry));
+        assertEquals(1, table.getHits());
+        assertEquals(1.0, table.getHitRate());
+    }
+
+    @Test
+    public void testCollision() {
+        table.store(hash, Moves.NONE, 10, 1, TranspositionTable.BOUND_EXACT);
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(sameSlot));
+        assertEquals(1, table.getCollisions());
+        assertEquals(0, table.getHits());
+    }
+
+    @Test
+    public void testDepthPreferredReplacement() {
+        table.store(hash, Moves.NONE, 10, 5, TranspositionTable.BOUND_EXACT);
+        table.store(sameSlot, Moves.NONE, 20, 2, TranspositionTable.BOUND_EXACT);
+        assertEquals(10, TranspositionTable.score(table.probe(hash)));
+
+        table.newSearch();
+        table.store(sameSlot, Moves.NONE, 20, 2, TranspositionTable.BOUND_EXACT);
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(hash));
+        assertEquals(20, TranspositionTable.score(table.probe(sameSlot)));
+    }
+
+    @Test
+    public void testAlwaysReplacement() {
+        table = new TranspositionTable(1, ReplacementPolicy.ALWAYS);
+        table.store(hash, Moves.NONE, 10, 5, TranspositionTable.BOUND_EXACT);
+        table.store(sameSlot, Moves.NONE, 20, 2, TranspositionTable.BOUND_EXACT);
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(hash));
+        assertEquals(20, TranspositionTable.score(table.probe(sameSlot)));
+    }
+
+    @Test
+    public void testStoreKeepsMoveOfSamePosition() {
+        int move = Moves.encode(6, 21, Moves.QUIET);
+        table.store(hash, move, 10, 3, TranspositionTable.BOUND_LOWER);
+        table.store(hash, Moves.NONE, -5, 4, TranspositionTable.BOUND_UPPER);
+
+        long entry = table.probe(hash);
+        assertEquals(move, TranspositionTable.move(entry));
+        assertEquals(-5, TranspositionTable.score(entry));
+        assertEquals(4, TranspositionTable.depth(entry));
+
+        table.clear();
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(hash));
+        assertEquals(1, table.getProbes());
+    }
+
+    @Test
+    public void testConcurrentAccessNeverReturnsTornEntries() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        List<Long> torn = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int seed = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 200_000; i++) {
+                    // every position in the same few slots, each stored with a score derived from its own hash
+                    long key = (i % 64) * 0x9E3779B97F4A7C15L + seed * 31;
+                    table.store(key, Moves.NONE, (int) (key & 0x3FFF), 1 + seed, TranspositionTable.BOUND_EXACT);
+                    long entry = table.probe(key);
+                    if (entry != TranspositionTable.NO_ENTRY && TranspositionTable.score(entry) != (key & 0x3FFF)) {
+                        synchronized (torn) {
+                            torn.add(key);
+                        }
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(torn.isEmpty());
+        assertEquals(800_000, table.getProbes());
+    }
+}
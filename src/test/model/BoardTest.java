@@ -4,6 +4,9 @@ import javax.swing.*;
 import model.enums.Side;
 import model.enums.Type;
 import model.enums.Action;
+import model.enums.GameState;
+import model.bitboard.MoveGenerator;
+import model.pieces.Pawn;
 import model.pieces.Piece;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -136,6 +139,39 @@ public class BoardTest {
         assertTrue(board.isCheckmate());
         assertTrue(board.getGameOver());
         assertEquals(Side.BLACK, board.getCurrentTurn());
+        assertEquals(GameState.CHECKMATE, board.getGameState());
+        assertEquals("White", board.getWinner());
+        assertEquals("Qxf7#", board.getMoveList().getAllMoves().get(6).getFormattedMove());
+    }
+
+    @Test
+    public void testStalemateIsDraw() {
+        Board stalemate = Board.fromFen("7k/8/8/8/8/8/5Q2/K7 w - - 0 1");
+        assertFalse(stalemate.getGameOver());
+        stalemate.makeMove("f2", "f7");
+        assertTrue(stalemate.getGameOver());
+        assertTrue(stalemate.isStalemate());
+        assertFalse(stalemate.isCheckmate());
+        assertEquals(GameState.STALEMATE, stalemate.getGameState());
+        assertEquals("Draw", stalemate.getWinner());
+        assertEquals("Qf7", stalemate.getMoveList().getAllMoves().get(0).getFormattedMove());
+    }
+
+    @Test
+    public void testRepetitionEndsGame() {
+        for (int i = 0; i < 2; i++) {
+            board.makeMove("g1", "f3");
+            board.makeMove("g8", "f6");
+            board.makeMove("f3", "g1");
+            assertFalse(board.getGameOver());
+            board.makeMove("f6", "g8");
+        }
+        assertTrue(board.getGameOver());
+        assertEquals(GameState.THREEFOLD_REPETITION, board.getGameState());
+        assertEquals("Draw", board.getWinner());
+        board.unmakeMove();
+        assertFalse(board.getGameOver());
+        assertEquals(GameState.ONGOING, board.getGameState());
     }
 
     @Test
@@ -206,4 +242,129 @@ public class BoardTest {
         assertTrue(res.contains("g7"));
         assertTrue(res.contains("h7"));
     }
+
+    @Test
+    public void testPositionKeyTransposition() {
+        Board other = new Board();
+        assertEquals(other.positionKey(), board.positionKey());
+
+        board.makeMove("e2", "e4");
+        board.makeMove("e7", "e5");
+        board.makeMove("g1", "f3");
+        other.makeMove("g1", "f3");
+        other.makeMove("e7", "e5");
+        other.makeMove("e2", "e4");
+
+        assertEquals(other.positionKey(), board.positionKey());
+        assertEquals(board.getPosition().computeHash(), board.positionKey());
+    }
+
+    @Test
+    public void testPositionKeyChangesWithTurnAndPawnStatus() {
+        long start = board.positionKey();
+        board.setCurrentTurn(Side.BLACK);
+        assertNotEquals(start, board.positionKey());
+        board.setCurrentTurn(Side.WHITE);
+        assertEquals(start, board.positionKey());
+
+        board.makeMove("e2", "e4");
+        board.makeMove("e7", "e5");
+        board.makeMove("e4", "e3");
+        board.makeMove("e5", "e6");
+        board.makeMove("e3", "e2");
+        board.makeMove("e6", "e7");
+        assertNotEquals(start, board.positionKey());
+        assertEquals(board.getPosition().computeHash(), board.positionKey());
+    }
+
+    @Test
+    public void testUnmakeMoveRestoresCapture() {
+        board.makeMove("e2", "e4");
+        board.makeMove("d7", "d5");
+        long key = board.positionKey();
+        Piece blackPawn = board.getPiece("d5");
+        Piece whitePawn = board.getPiece("e4");
+
+        board.makeMove("e4", "d5");
+        assertEquals(3, board.getMoveList().getAllMoves().size());
+        assertEquals(15, board.getNumAvailablePieces());
+
+        assertTrue(board.canUnmakeMove());
+        board.unmakeMove();
+        assertEquals(2, board.getMoveList().getAllMoves().size());
+        assertEquals(blackPawn, board.getPiece("d5"));
+        assertEquals(whitePawn, board.getPiece("e4"));
+        assertEquals("e4", whitePawn.getCurrentPos());
+        assertEquals(Side.WHITE, board.getCurrentTurn());
+        board.setCurrentTurn(Side.BLACK);
+        assertEquals(16, board.getNumAvailablePieces());
+        board.setCurrentTurn(Side.WHITE);
+        assertEquals(key, board.positionKey());
+    }
+
+    @Test
+    public void testUnmakeMoveRestoresPawnStart() {
+        long key = board.positionKey();
+        Pawn pawn = (Pawn) board.getPiece("e2");
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int count = board.generateLegalMoves(moves);
+        for (int i = 0; i < count; i++) {
+            board.makeMove(moves[i]);
+            board.unmakeMove();
+        }
+        board.makeMove("e2", "e3");
+        assertFalse(pawn.getAtStartPos());
+        board.unmakeMove();
+
+        assertTrue(pawn.getAtStartPos());
+        assertEquals(pawn, board.getPiece("e2"));
+        assertNull(board.getPiece("e3"));
+        assertEquals(key, board.positionKey());
+        assertEquals(0, board.getMoveList().getAllMoves().size());
+        assertFalse(board.canUnmakeMove());
+        assertEquals("e2", pawn.getCurrentPos());
+    }
+
+    @Test
+    public void testFromFen() {
+        Board start = Board.fromFen("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1");
+        assertEquals(board.positionKey(), start.positionKey());
+        assertEquals(Side.WHITE, start.getCurrentTurn());
+        assertEquals(Type.KNIGHT, start.getPiece("g1").pieceType);
+        assertTrue(((Pawn) start.getPiece("e2")).getAtStartPos());
+        assertEquals(2, start.getPiece("e2").getLegalMoves().size());
+        assertTrue(start.getMoveList().getAllMoves().isEmpty());
+
+        Board mated = Board.fromFen("rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w - - 1 3");
+        assertTrue(mated.getGameOver());
+        assertThrows(IllegalArgumentException.class, () -> Board.fromFen("8/8/8/8/8/8/8/8 w - - 0 1"));
+    }
+
+    @Test
+    public void testToFen() {
+        assertEquals("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1", board.toFen());
+        board.makeMove("e2", "e4");
+        board.makeMove("e7", "e5");
+        board.makeMove("g1", "f3");
+        assertEquals("rnbqkbnr/pppp1ppp/8/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R b - - 1 2", board.toFen());
+
+        Board copy = Board.fromFen(board.toFen());
+        assertEquals(board.positionKey(), copy.positionKey());
+        assertFalse(((Pawn) copy.getPiece("e4")).getAtStartPos());
+    }
+
+    @Test
+    public void testToFenKeepsMoveNumbers() {
+        String fen = "r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R b - - 5 40";
+        Board loaded = Board.fromFen(fen);
+        assertEquals(fen, loaded.toFen());
+        loaded.makeMove("g8", "f6");
+        assertEquals("r1bqkb1r/pppp1ppp/2n2n2/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w - - 6 41", loaded.toFen());
+        assertEquals(loaded.toFen(), loaded.getSnapshot().toFen());
+        assertEquals(loaded.toFen(), Board.fromSnapshot(loaded.getSnapshot()).toFen());
+
+        Board blackFirst = Board.fromFen("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b - - 0 1");
+        blackFirst.makeMove("e7", "e5");
+        assertEquals("rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w - - 0 2", blackFirst.toFen());
+    }
 }
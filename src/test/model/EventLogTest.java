@@ -0,0 +1,125 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for the bounded, lock-free log of game events
+class EventLogTest {
+    private EventLog log;
+
+    @BeforeEach
+    void runBefore() {
+        log = new EventLog(8);
+    }
+
+    @Test
+    void testCapacityRoundedUpToPowerOfTwo() {
+        assertEquals(8, log.getCapacity());
+        assertEquals(16, new EventLog(9).getCapacity());
+        assertEquals(EventLog.DEFAULT_CAPACITY, EventLog.getInstance().getCapacity());
+    }
+
+    @Test
+    void testIterateInLoggedOrder() {
+        for (int i = 0; i < 5; i++) {
+            log.logEvent(new Event("event " + i));
+        }
+        List<String> descriptions = descriptions(log);
+        assertEquals(5, descriptions.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("event " + i, descriptions.get(i));
+        }
+    }
+
+    @Test
+    void testOverwritesOldest() {
+        for (int i = 0; i < 20; i++) {
+            log.logEvent(new Event("event " + i));
+        }
+        List<String> descriptions = descriptions(log);
+        assertEquals(8, descriptions.size());
+        assertEquals("event 12", descriptions.get(0));
+        assertEquals("event 19", descriptions.get(7));
+    }
+
+    @Test
+    void testClear() {
+        log.logEvent(new Event("first"));
+        log.logEvent(new Event("second"));
+        log.clear();
+        List<String> descriptions = descriptions(log);
+        assertEquals(1, descriptions.size());
+        assertEquals("Event log cleared.", descriptions.get(0));
+    }
+
+    @Test
+    void testNanoTimeMonotonic() {
+        log.logEvent(new Event("first"));
+        log.logEvent(new Event("second"));
+        long previous = Long.MIN_VALUE;
+        for (Event e : log) {
+            assertTrue(e.getNanoTime() >= previous);
+            previous = e.getNanoTime();
+        }
+    }
+
+    @Test
+    void testConcurrentLogging() {
+        EventLog shared = new EventLog(4 * 1000);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            String prefix = "thread " + t + " event ";
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    shared.logEvent(new Event(prefix + i));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            fail("Interrupted while logging");
+        }
+        Set<String> descriptions = new HashSet<>(descriptions(shared));
+        assertEquals(4 * 1000, descriptions.size());
+    }
+
+    @Test
+    void testConcurrentClearAndIterate() {
+        EventLog shared = new EventLog(8);
+        Thread clearer = new Thread(() -> {
+            for (int i = 0; i < 100000; i++) {
+                shared.clear();
+            }
+        });
+        clearer.start();
+        try {
+            while (clearer.isAlive()) {
+                assertTrue(descriptions(shared).size() <= 8);
+            }
+            clearer.join();
+        } catch (InterruptedException e) {
+            fail("Interrupted while clearing");
+        }
+        assertEquals(List.of("Event log cleared."), descriptions(shared));
+    }
+
+    // EFFECTS: returns the descriptions of the events in log, oldest first
+    private static List<String> descriptions(EventLog log) {
+        List<String> res = new ArrayList<>();
+        for (Event e : log) {
+            res.add(e.getDescription());
+        }
+        return res;
+    }
+}
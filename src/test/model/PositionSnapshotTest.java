@@ -0,0 +1,141 @@
+package model;
+
+import model.bitboard.Position;
+import model.enums.Side;
+import model.enums.Type;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for the immutable snapshots a board publishes of its game
+class PositionSnapshotTest {
+    private Board board;
+
+    @BeforeEach
+    void runBefore() {
+        board = new Board();
+    }
+
+    @Test
+    void testInitialSnapshot() {
+        PositionSnapshot snapshot = board.getSnapshot();
+        assertEquals(Side.WHITE, snapshot.getCurrentTurn());
+        assertEquals(0, snapshot.getMoveCount());
+        assertNull(snapshot.getLastMove());
+        assertEquals(board.positionKey(), snapshot.getPositionKey());
+        assertEquals(board.toFen(), snapshot.toFen());
+        assertEquals(Type.KING, snapshot.getType("e1"));
+        assertEquals(Side.BLACK, snapshot.getSide("d8"));
+        assertEquals(Type.EMPTY, snapshot.getType("e4"));
+        assertNull(snapshot.getSide("z9"));
+    }
+
+    @Test
+    void testSnapshotUnchangedByLaterMoves() {
+        PositionSnapshot before = board.getSnapshot();
+        board.makeMove("e2", "e4");
+        PositionSnapshot after = board.getSnapshot();
+        assertNotSame(before, after);
+        assertEquals(Type.PAWN, before.getType("e2"));
+        assertEquals(Type.EMPTY, before.getType("e4"));
+        assertEquals(Type.PAWN, after.getType("e4"));
+        assertEquals(Side.BLACK, after.getCurrentTurn());
+        assertEquals("e4", after.getLastMove().getFormattedMove());
+        assertEquals(board.toFen(), after.toFen());
+        assertEquals(board.positionKey(), after.getPositionKey());
+        assertEquals(0, before.getMoveCount());
+    }
+
+    @Test
+    void testHistoryAndTakeBack() {
+        board.makeMove("e2", "e4");
+        board.makeMove("e7", "e5");
+        PositionSnapshot twoMoves = board.getSnapshot();
+        board.makeMove("g1", "f3");
+        board.unmakeMove();
+        PositionSnapshot takenBack = board.getSnapshot();
+        assertEquals(2, takenBack.getMoveCount());
+        assertEquals(twoMoves.getPositionKey(), takenBack.getPositionKey());
+        List<Move> moves = takenBack.getMoves();
+        assertEquals("e4", moves.get(0).getFormattedMove());
+        assertEquals("e5", moves.get(1).getFormattedMove());
+        try {
+            moves.add(moves.get(0));
+            fail("History should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    @Test
+    void testSearchMovesNotPublished() {
+        PositionSnapshot before = board.getSnapshot();
+        int[] moves = new int[64];
+        board.generateLegalMoves(moves);
+        board.makeMove(moves[0]);
+        assertSame(before, board.getSnapshot());
+        board.unmakeMove();
+        assertSame(before, board.getSnapshot());
+    }
+
+    @Test
+    void testPlacePieceNotPublished() {
+        PositionSnapshot before = board.getSnapshot();
+        board.placePiece("e4", board.getPiece("e2"));
+        board.placePiece("e2", null);
+        assertSame(before, board.getSnapshot());
+        board.setPiece("d2", null);
+        PositionSnapshot after = board.getSnapshot();
+        assertNotSame(before, after);
+        assertEquals(Type.PAWN, after.getType("e4"));
+        assertEquals(Type.EMPTY, after.getType("d2"));
+        assertEquals(board.positionKey(), after.getPositionKey());
+    }
+
+    @Test
+    void testFromSnapshot() {
+        board.makeMove("f2", "f3");
+        board.makeMove("e7", "e5");
+        board.makeMove("g2", "g4");
+        board.makeMove("d8", "h4");
+        PositionSnapshot snapshot = board.getSnapshot();
+        assertTrue(snapshot.getGameOver());
+        Position position = snapshot.toPosition();
+        assertEquals(snapshot.getPositionKey(), position.getHash());
+        Board copy = Board.fromSnapshot(snapshot);
+        assertEquals(board.toFen(), copy.toFen());
+        assertTrue(copy.getGameOver());
+        assertEquals(4, copy.getMoveList().getAllMoves().size());
+    }
+
+    @Test
+    void testConcurrentReaders() {
+        AtomicInteger inconsistent = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            for (int i = 0; i < 20000; i++) {
+                PositionSnapshot snapshot = board.getSnapshot();
+                if (snapshot.toPosition().getHash() != snapshot.getPositionKey()) {
+                    inconsistent.incrementAndGet();
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 200; i++) {
+            board.makeMove("g1", "f3");
+            board.makeMove("g8", "f6");
+            board.makeMove("f3", "g1");
+            board.makeMove("f6", "g8");
+        }
+        try {
+            reader.join();
+        } catch (InterruptedException e) {
+            fail("Interrupted while reading");
+        }
+        assertEquals(0, inconsistent.get());
+        assertEquals(800, board.getSnapshot().getMoveCount());
+    }
+}
@@ -0,0 +1,82 @@
+package model.bitboard;
+
+import model.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import persistence.JsonReader;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for checking batches of moves for legality with fork-join
+class BatchMoveValidatorTest {
+    private Position[] positions;
+
+    @BeforeEach
+    void runBefore() {
+        try {
+            Board start = new Board();
+            Board middlegame = new JsonReader("./data/perftPosition6.json").read();
+            Board check = new Board();
+            check.makeMove("e2", "e4");
+            check.makeMove("f7", "f6");
+            check.makeMove("d1", "h5");
+            positions = new Position[] {start.getPosition(), middlegame.getPosition(), check.getPosition()};
+        } catch (IOException e) {
+            fail("Couldn't read from file");
+        }
+    }
+
+    @Test
+    void testIsLegalMatchesGenerator() {
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        for (Position position : positions) {
+            int count = MoveGenerator.generateLegalMoves(position, moves);
+            int legal = 0;
+            for (int from = 0; from < 64; from++) {
+                for (int to = 0; to < 64; to++) {
+                    legal += MoveGenerator.isLegal(position, from, to) ? 1 : 0;
+                }
+            }
+            assertEquals(count, legal);
+            for (int i = 0; i < count; i++) {
+                assertTrue(MoveGenerator.isLegal(position, Moves.from(moves[i]), Moves.to(moves[i])));
+            }
+        }
+    }
+
+    @Test
+    void testValidatePairs() {
+        Position[] batch = {positions[0], positions[0], positions[2], positions[2]};
+        int[] moves = {Moves.encode(12, 28, 0), Moves.encode(52, 36, 0), Moves.encode(53, 45, 0),
+                Moves.encode(54, 46, 0)};
+        BitSet valid = new BatchMoveValidator().validate(batch, moves);
+        assertTrue(valid.get(0));
+        assertFalse(valid.get(1));
+        assertFalse(valid.get(2));
+        assertTrue(valid.get(3));
+        assertEquals(2, valid.cardinality());
+    }
+
+    @Test
+    void testValidateEveryCandidateInParallel() {
+        int pairs = positions.length * 64 * 64;
+        int[] positionIndices = new int[pairs];
+        int[] moves = new int[pairs];
+        for (int i = 0; i < pairs; i++) {
+            positionIndices[i] = i / (64 * 64);
+            moves[i] = Moves.encode(i / 64 % 64, i % 64, 0);
+        }
+        long keyBefore = positions[1].getHash();
+        BitSet valid = new BatchMoveValidator(new ForkJoinPool(4), 200).validate(positions, positionIndices, moves);
+        assertEquals(keyBefore, positions[1].getHash());
+        for (int i = 0; i < pairs; i++) {
+            Position position = positions[positionIndices[i]];
+            assertEquals(MoveGenerator.isLegal(position, Moves.from(moves[i]), Moves.to(moves[i])), valid.get(i));
+        }
+        assertEquals(20, valid.get(0, 64 * 64).cardinality());
+    }
+}
@@ -0,0 +1,61 @@
+package model.bitboard;
+
+import model.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FenTest {
+    private static final String POSITION_6 = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+    private Position position;
+
+    @BeforeEach
+    public void setup() {
+        position = new Position();
+    }
+
+    @Test
+    public void testParseStartingPosition() {
+        Fen.parse(Fen.STARTING_POSITION, position);
+        Position start = new Board().getPosition();
+        assertEquals(start.getHash(), position.getHash());
+        assertEquals(start.getPawnStarts(), position.getPawnStarts());
+        assertEquals(start.getMidgame(), position.getMidgame());
+        assertEquals(Fen.STARTING_POSITION, Fen.format(position, 0, 1));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Fen.parse(POSITION_6, position);
+        assertEquals(POSITION_6, Fen.format(position, 0, 10));
+        assertEquals(18, position.getStartPly());
+        assertEquals(10, Fen.fullmoveNumber(position, 1));
+        assertEquals(11, Fen.fullmoveNumber(position, 2));
+        assertEquals(position.computeHash(), position.getHash());
+        assertEquals(0L, position.getPawnStarts() & Bitboards.RANK_1);
+
+        Fen.parse("8/8/4k3/8/8/4K3/8/8 b - e3", position);
+        assertEquals(Position.BLACK, position.getSideToMove());
+        assertEquals(1, position.getStartPly());
+        assertEquals("8/8/4k3/8/8/4K3/8/8 b - - 7 40", Fen.format(position, 7, 40));
+        assertEquals(position.computeHash(), position.getHash());
+    }
+
+    @Test
+    public void testInvalidRecords() {
+        String[] invalid = {
+            "",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP w - - 0 1",
+            "rnbqkbnr/pppppppp/9/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1",
+            "rnbqkbnr/ppppxppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR x - - 0 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1 extra",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQ1BNR w - - 0 1",
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQxq - 0 1"
+        };
+        for (String fen : invalid) {
+            assertThrows(IllegalArgumentException.class, () -> Fen.parse(fen, position), fen);
+        }
+    }
+}
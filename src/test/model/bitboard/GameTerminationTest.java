@@ -0,0 +1,75 @@
+package model.bitboard;
+
+import model.enums.GameState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for deciding whether and how a game has ended
+class GameTerminationTest {
+
+    // EFFECTS: returns the position described by fen
+    private static Position parse(String fen) {
+        Position position = new Position();
+        Fen.parse(fen, position);
+        return position;
+    }
+
+    @Test
+    void testOngoing() {
+        Position start = parse(Fen.STARTING_POSITION);
+        assertTrue(MoveGenerator.hasLegalMove(start));
+        assertEquals(GameState.ONGOING, GameTermination.classify(start));
+    }
+
+    @Test
+    void testCheckmateAndStalemate() {
+        Position mate = parse("rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w - - 1 3");
+        assertFalse(MoveGenerator.hasLegalMove(mate));
+        assertEquals(GameState.CHECKMATE, GameTermination.classify(mate));
+        Position stalemate = parse("7k/5Q2/8/8/8/8/8/K7 b - - 0 1");
+        assertEquals(GameState.STALEMATE, GameTermination.classify(stalemate));
+    }
+
+    @Test
+    void testInsufficientMaterial() {
+        assertEquals(GameState.INSUFFICIENT_MATERIAL, GameTermination.classify(parse("8/8/4k3/8/8/4K3/8/8 w - - 0 1")));
+        assertEquals(GameState.INSUFFICIENT_MATERIAL,
+                GameTermination.classify(parse("8/8/4k3/8/8/4K3/6N1/8 w - - 0 1")));
+        assertEquals(GameState.INSUFFICIENT_MATERIAL,
+                GameTermination.classify(parse("8/8/4k3/3b4/8/4K3/6B1/8 w - - 0 1")));
+        assertEquals(GameState.ONGOING, GameTermination.classify(parse("8/8/4k3/4b3/8/4K3/6B1/8 w - - 0 1")));
+        assertEquals(GameState.ONGOING, GameTermination.classify(parse("8/8/4k3/8/8/4K3/4P3/8 w - - 0 1")));
+        assertEquals(GameState.ONGOING, GameTermination.classify(parse("8/8/4k3/8/8/4K3/5NN1/8 w - - 0 1")));
+    }
+
+    @Test
+    void testFiftyMoveRule() {
+        Position position = parse("8/8/4k3/8/8/4K3/4R3/8 w - - 99 80");
+        assertEquals(99, position.getHalfmoveClock());
+        assertEquals(GameState.ONGOING, GameTermination.classify(position));
+        position.makeMove(Moves.encode(Bitboards.squareOf("e2"), Bitboards.squareOf("a2"), Moves.QUIET));
+        assertEquals(100, position.getHalfmoveClock());
+        assertEquals(GameState.FIFTY_MOVE_RULE, GameTermination.classify(position));
+        position.unmakeMove();
+        assertEquals(99, position.getHalfmoveClock());
+    }
+
+    @Test
+    void testThreefoldRepetition() {
+        Position position = parse(Fen.STARTING_POSITION);
+        int[] shuffle = {Moves.encode(6, 21, 0), Moves.encode(62, 45, 0), Moves.encode(21, 6, 0),
+                Moves.encode(45, 62, 0)};
+        for (int round = 0; round < 2; round++) {
+            for (int move : shuffle) {
+                assertEquals(GameState.ONGOING, GameTermination.classify(position));
+                position.makeMove(move);
+            }
+        }
+        assertEquals(2, position.countRepetitions());
+        assertEquals(GameState.THREEFOLD_REPETITION, GameTermination.classify(position));
+        position.makeMove(Moves.encode(12, 28, Moves.DOUBLE_PUSH));
+        assertEquals(0, position.getHalfmoveClock());
+        assertEquals(0, position.countRepetitions());
+    }
+}
@@ -0,0 +1,62 @@
+package model.bitboard;
+
+import model.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MoveGeneratorTest {
+    private Board board;
+    private int[] moves;
+
+    @BeforeEach
+    public void setup() {
+        board = new Board();
+        moves = new int[MoveGenerator.MAX_MOVES];
+    }
+
+    @Test
+    public void testStartingPositionMoveCount() {
+        assertEquals(20, board.generateLegalMoves(moves));
+    }
+
+    @Test
+    public void testMovesArePacked() {
+        int count = MoveGenerator.generateLegalMoves(board.getPosition(), Bitboards.squareOf("e2"), moves, 0);
+        assertEquals(2, count);
+        assertEquals("e2e3", Moves.format(moves[0]));
+        assertEquals(Moves.QUIET, Moves.flags(moves[0]));
+        assertEquals("e2e4", Moves.format(moves[1]));
+        assertEquals(Moves.DOUBLE_PUSH, Moves.flags(moves[1]));
+    }
+
+    @Test
+    public void testCaptureFlag() {
+        board.makeMove("e2", "e4");
+        board.makeMove("d7", "d5");
+        int count = MoveGenerator.generateLegalMoves(board.getPosition(), Bitboards.squareOf("e4"), moves, 0);
+        assertEquals(2, count);
+        assertTrue(Moves.isCapture(moves[0]));
+        assertEquals("e4d5", Moves.format(moves[0]));
+        assertFalse(Moves.isCapture(moves[1]));
+    }
+
+    @Test
+    public void testDoublePushCannotJumpPiece() {
+        board.makeMove("b1", "c3");
+        int count = MoveGenerator.generateLegalMoves(board.getPosition(), Bitboards.squareOf("c2"), moves, 0);
+        assertEquals(0, count);
+    }
+
+    @Test
+    public void testPinnedPieceHasNoMoves() {
+        board.makeMove("d2", "d4");
+        board.makeMove("e7", "e6");
+        board.makeMove("b1", "c3");
+        board.makeMove("f8", "b4");
+        int count = MoveGenerator.generateLegalMoves(board.getPosition(), Bitboards.squareOf("c3"), moves, 0);
+        assertEquals(0, count);
+        assertEquals(5, board.getPiece("c3").getLegalMovesViolateCheck().size());
+    }
+}
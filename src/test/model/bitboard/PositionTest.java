@@ -0,0 +1,101 @@
+package model.bitboard;
+
+import model.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PositionTest {
+    private Board board;
+    private Position position;
+
+    @BeforeEach
+    public void setup() {
+        board = new Board();
+        position = board.getPosition();
+    }
+
+    private static long bit(String coord) {
+        return 1L << Bitboards.squareOf(coord);
+    }
+
+    @Test
+    public void testStartingPosition() {
+        assertEquals(32, Long.bitCount(position.getOccupied()));
+        assertEquals(16, Long.bitCount(position.getPawnStarts()));
+        assertEquals(Position.WHITE, position.getSideToMove());
+        assertEquals(0L, position.getCheckers(Position.WHITE));
+        assertEquals(0L, position.getPinned(Position.WHITE));
+    }
+
+    @Test
+    public void testAttackedSquares() {
+        long attacked = position.getAttackedSquares(Position.WHITE);
+        assertEquals(22, Long.bitCount(attacked));
+        assertNotEquals(0L, attacked & bit("f3"));
+        assertEquals(0L, attacked & bit("e4"));
+    }
+
+    @Test
+    public void testPinUpdatedAfterMove() {
+        board.makeMove("d2", "d4");
+        board.makeMove("e7", "e6");
+        board.makeMove("b1", "c3");
+        assertEquals(0L, position.getPinned(Position.WHITE));
+        board.makeMove("f8", "b4");
+        assertEquals(bit("c3"), position.getPinned(Position.WHITE));
+        assertTrue(position.leavesKingAttacked(Bitboards.squareOf("c3"), Bitboards.squareOf("e4")));
+        assertFalse(position.leavesKingAttacked(Bitboards.squareOf("a2"), Bitboards.squareOf("a3")));
+    }
+
+    @Test
+    public void testCheckersAndEvasions() {
+        board.makeMove("e2", "e4");
+        board.makeMove("f7", "f6");
+        board.makeMove("d1", "h5");
+        assertEquals(bit("h5"), position.getCheckers(Position.BLACK));
+        assertTrue(position.isInCheck(Position.BLACK));
+        assertFalse(position.leavesKingAttacked(Bitboards.squareOf("g7"), Bitboards.squareOf("g6")));
+        assertTrue(position.leavesKingAttacked(Bitboards.squareOf("a7"), Bitboards.squareOf("a6")));
+        assertTrue(position.leavesKingAttacked(Bitboards.squareOf("e8"), Bitboards.squareOf("f7")));
+    }
+
+    @Test
+    public void testEvaluationTermsFollowMakeAndUnmake() {
+        assertEquals(PieceSquareTables.MAX_PHASE, position.getPhase());
+        assertEquals(0, position.getMidgame());
+        assertEquals(0, position.getEndgame());
+
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        for (int ply = 0; ply < 12; ply++) {
+            MoveGenerator.generateLegalMoves(position, moves);
+            position.makeMove(moves[ply % 5]);
+            assertSums(position);
+        }
+        while (position.getUndoDepth() > 0) {
+            position.unmakeMove();
+            assertSums(position);
+        }
+        assertEquals(0, position.getMidgame());
+        assertEquals(0, position.getEndgame());
+    }
+
+    // EFFECTS: asserts that the incrementally kept evaluation terms equal the sums over all pieces on the board
+    private static void assertSums(Position position) {
+        int midgame = 0;
+        int endgame = 0;
+        int phase = 0;
+        for (int sq = 0; sq < 64; sq++) {
+            int code = position.getPieceCode(sq);
+            if (code != Position.EMPTY) {
+                midgame += PieceSquareTables.midgame(code, sq);
+                endgame += PieceSquareTables.endgame(code, sq);
+                phase += PieceSquareTables.phase(code);
+            }
+        }
+        assertEquals(midgame, position.getMidgame());
+        assertEquals(endgame, position.getEndgame());
+        assertEquals(phase, position.getPhase());
+    }
+}
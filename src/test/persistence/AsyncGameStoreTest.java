@@ -0,0 +1,83 @@
+package persistence;
+
+import model.Board;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for a store that saves and loads games on a background thread
+class AsyncGameStoreTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSaveThenLoad() {
+        List<String> progress = new CopyOnWriteArrayList<>();
+        AsyncGameStore store = new AsyncGameStore(new SaveJournal(dir.resolve("board.json").toString()), Runnable::run);
+        Board board = new Board();
+        board.makeMove("e2", "e4");
+        CompletableFuture<Void> saved = store.save(board, progress::add);
+        // the board may change while it is being saved; the save holds the position it had when asked
+        board.makeMove("e7", "e5");
+        saved.join();
+        Board loaded = store.load(progress::add).join();
+
+        assertEquals(1, loaded.getMoveList().getAllMoves().size());
+        assertEquals("e4", loaded.getMoveList().getAllMoves().get(0).getFormattedMove());
+        assertEquals(List.of("Saving game...", "Game saved", "Loading saved game...", "Loaded 1 moves"), progress);
+        store.shutdown().join();
+    }
+
+    @Test
+    void testLoadMissingFile() {
+        AsyncGameStore store = new AsyncGameStore(new SaveJournal(dir.resolve("none.json").toString()), Runnable::run);
+        try {
+            store.load(message -> { }).join();
+            fail("CompletionException expected");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof UncheckedIOException);
+        }
+    }
+
+    @Test
+    void testCancelQueuedLoad() throws InterruptedException {
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> progress = new CopyOnWriteArrayList<>();
+        Executor gated = runnable -> {
+            saving.countDown();
+            awaitQuietly(release);
+            runnable.run();
+        };
+        AsyncGameStore store = new AsyncGameStore(new SaveJournal(dir.resolve("board.json").toString()), gated);
+        CompletableFuture<Void> saved = store.save(new Board(), progress::add);
+        saving.await();
+        CompletableFuture<Board> loaded = store.load(progress::add);
+        assertTrue(loaded.cancel(false));
+        release.countDown();
+        saved.join();
+
+        assertTrue(loaded.isCancelled());
+        store.shutdown().join();
+        assertFalse(progress.contains("Loading saved game..."));
+    }
+
+    // EFFECTS: waits for latch to reach zero
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package persistence;
+
+import model.Board;
+import model.enums.Side;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for a binary reader object that retrieves a chess game board from file
+class BinaryGameReaderTest {
+
+    @Test
+    void testReaderNonExistentFile() {
+        BinaryGameReader reader = new BinaryGameReader("./data/noSuchFile.bin");
+        try {
+            reader.read();
+            fail("IOException expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReaderStarterBoard() {
+        try {
+            Board board = BinaryGameReader.fromBytes(BinaryGameWriter.toBytes(new Board()));
+            assertEquals(Side.WHITE, board.getCurrentTurn());
+            assertEquals(16, board.getNumAvailablePieces());
+            assertEquals(0, board.getMoveList().getAllMoves().size());
+            assertFalse(board.getGameOver());
+            assertEquals(new Board().positionKey(), board.positionKey());
+            board.makeMove("e2", "e4");
+            assertEquals("e4", board.getMoveList().getAllMoves().get(0).getFormattedMove());
+        } catch (IOException e) {
+            fail("Couldn't read the board");
+        }
+    }
+
+    @Test
+    void testReaderCheckmate() {
+        Board board = new Board();
+        board.makeMove("f2", "f3");
+        board.makeMove("e7", "e5");
+        board.makeMove("g2", "g4");
+        board.makeMove("d8", "h4");
+        try {
+            Board read = BinaryGameReader.fromBytes(BinaryGameWriter.toBytes(board));
+            assertTrue(read.getGameOver());
+            assertEquals(board.positionKey(), read.positionKey());
+            assertTrue(board.toJson().similar(read.toJson()));
+        } catch (IOException e) {
+            fail("Couldn't read the board");
+        }
+    }
+
+    @Test
+    void testReaderInvalidData() {
+        byte[] data = BinaryGameWriter.toBytes(new Board());
+        byte[] badMagic = data.clone();
+        badMagic[0] = 'X';
+        byte[] badVersion = data.clone();
+        badVersion[3] = 2;
+        byte[] tooLong = Arrays.copyOf(data, data.length + 1);
+        for (byte[] bad : Arrays.asList(badMagic, badVersion, Arrays.copyOf(data, data.length - 1), tooLong)) {
+            try {
+                BinaryGameReader.fromBytes(bad);
+                fail("IOException expected");
+            } catch (IOException e) {
+                // pass
+            }
+        }
+    }
+}
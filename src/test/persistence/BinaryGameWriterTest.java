@@ -0,0 +1,69 @@
+package persistence;
+
+import model.Board;
+import model.enums.Side;
+import model.enums.Type;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for a binary writer object that stores a chess game board to file
+class BinaryGameWriterTest {
+
+    @Test
+    void testWriterInvalidFile() {
+        try {
+            BinaryGameWriter writer = new BinaryGameWriter("./data/my\0illegal:fileName.bin");
+            writer.open();
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testWriterGeneralBoard() {
+        try {
+            Board board = new Board();
+            board.makeMove("e2", "e4");
+            board.makeMove("b8", "c6");
+            board.makeMove("g1", "f3");
+            board.makeMove("d7", "d5");
+            board.makeMove("f1", "b5");
+            board.makeMove("d5", "e4");
+            long positionKey = board.positionKey();
+            BinaryGameWriter writer = new BinaryGameWriter("./data/testWriterGeneralBoard.bin");
+            writer.open();
+            writer.write(board);
+            writer.close();
+
+            BinaryGameReader reader = new BinaryGameReader("./data/testWriterGeneralBoard.bin");
+            Board read = reader.read();
+            assertEquals(positionKey, read.positionKey());
+            assertEquals(Side.WHITE, read.getCurrentTurn());
+            assertEquals(15, read.getNumAvailablePieces());
+            assertEquals(Type.KNIGHT, read.getPiece("c6").pieceType);
+            assertTrue(board.toJson().similar(read.toJson()));
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testWriterSizeComparedToJson() {
+        Board board = new Board();
+        assertEquals(32, BinaryGameWriter.toBytes(board).length);
+
+        board.makeMove("e2", "e4");
+        board.makeMove("e7", "e5");
+        board.makeMove("d1", "h5");
+        board.makeMove("b8", "c6");
+        byte[] binary = BinaryGameWriter.toBytes(board);
+        byte[] json = board.toJson().toString(4).getBytes(StandardCharsets.UTF_8);
+        assertEquals(32 + 4 * 3, binary.length);
+        assertTrue(binary.length * 10 < json.length);
+    }
+}
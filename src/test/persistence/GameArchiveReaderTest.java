@@ -0,0 +1,84 @@
+package persistence;
+
+import model.Board;
+import model.MoveList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for a reader that gives random access to the games of a game archive
+class GameArchiveReaderTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testReaderNonExistentFile() {
+        try {
+            new GameArchiveReader(dir.resolve("noSuchFile.dat").toString()).open();
+            fail("IOException expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReaderRandomAccessAcrossSegments() {
+        String path = dir.resolve("games.dat").toString();
+        List<Long> keys = new ArrayList<>();
+        try {
+            // 1 KiB segments, so records regularly have to move to the next segment
+            GameArchiveWriter writer = new GameArchiveWriter(path, GameArchiveWriter.MIN_SEGMENT_BITS);
+            writer.open();
+            Board board = new Board();
+            String[][] moves = {{"g1", "f3"}, {"g8", "f6"}, {"f3", "g1"}, {"f6", "g8"}};
+            for (int i = 0; i < 100; i++) {
+                board.makeMove(moves[i % 4][0], moves[i % 4][1]);
+                keys.add(board.positionKey());
+                writer.append(board);
+            }
+            writer.close();
+
+            GameArchiveReader reader = new GameArchiveReader(path);
+            reader.open();
+            assertEquals(100, reader.size());
+            for (int n = 99; n >= 0; n -= 7) {
+                assertEquals(keys.get(n), reader.read(n).positionKey());
+                assertEquals(n + 1, reader.readMoveList(n).getAllMoves().size());
+            }
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReaderGameViewAndBounds() {
+        String path = dir.resolve("games.dat").toString();
+        try {
+            Board board = new Board();
+            board.makeMove("e2", "e4");
+            GameArchiveWriter writer = new GameArchiveWriter(path);
+            writer.open();
+            writer.append(board);
+            writer.close();
+
+            GameArchiveReader reader = new GameArchiveReader(path);
+            reader.open();
+            ByteBuffer game = reader.getGame(0);
+            assertTrue(game.isReadOnly());
+            assertEquals(BinaryGameWriter.toBytes(board).length, game.remaining());
+            MoveList moveList = reader.readMoveList(0);
+            assertEquals("e4", moveList.getAllMoves().get(0).getFormattedMove());
+            assertThrows(IndexOutOfBoundsException.class, () -> reader.getGame(1));
+            reader.close();
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package persistence;
+
+import model.Board;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for a writer that appends games to a game archive
+class GameArchiveWriterTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void testWriterInvalidFile() {
+        try {
+            GameArchiveWriter writer = new GameArchiveWriter(dir.resolve("noSuchDir/games.dat").toString());
+            writer.open();
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testWriterAppendAfterReopen() {
+        String path = dir.resolve("games.dat").toString();
+        try {
+            GameArchiveWriter writer = new GameArchiveWriter(path);
+            writer.open();
+            assertEquals(0, writer.append(new Board()));
+            writer.close();
+
+            writer = new GameArchiveWriter(path);
+            writer.open();
+            assertEquals(1, writer.size());
+            Board board = new Board();
+            board.makeMove("e2", "e4");
+            assertEquals(1, writer.append(board));
+            writer.close();
+
+            GameArchiveReader reader = new GameArchiveReader(path);
+            reader.open();
+            assertEquals(2, reader.size());
+            assertEquals(new Board().positionKey(), reader.read(0).positionKey());
+            assertEquals(board.positionKey(), reader.read(1).positionKey());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testWriterDropsTornIndexEntry() {
+        String path = dir.resolve("games.dat").toString();
+        try {
+            GameArchiveWriter writer = new GameArchiveWriter(path);
+            writer.open();
+            writer.append(new Board());
+            writer.close();
+            try (RandomAccessFile index = new RandomAccessFile(path + ".idx", "rw")) {
+                index.seek(index.length());
+                index.write(new byte[3]);
+            }
+
+            writer = new GameArchiveWriter(path);
+            writer.open();
+            assertEquals(1, writer.size());
+            writer.append(new Board());
+            writer.close();
+            assertEquals(8 + 2 * 8, new File(path + ".idx").length());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testWriterRejectsForeignIndex() {
+        String path = dir.resolve("games.dat").toString();
+        try {
+            try (RandomAccessFile index = new RandomAccessFile(path + ".idx", "rw")) {
+                index.writeBytes("not an index");
+            }
+            new GameArchiveWriter(path).open();
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+}
@@ -2,6 +2,7 @@ package persistence;
 
 import model.Board;
 import model.enums.Side;
+import org.json.JSONException;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -48,4 +49,17 @@ class JsonReaderTest {
             fail("Couldn't read from file");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testReaderMalformedFile() {
+        JsonReader reader = new JsonReader("./data/testReaderGames.pgn");
+        try {
+            reader.read();
+            fail("JSONException expected");
+        } catch (JSONException e) {
+            // pass
+        } catch (IOException e) {
+            fail("Couldn't read from file");
+        }
+    }
+}
@@ -3,9 +3,13 @@ package persistence;
 import model.Board;
 import model.enums.Side;
 import model.enums.Type;
+import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -59,6 +63,7 @@ class JsonWriterTest {
             board.makeMove("f1", "d3");
             board.makeMove("d5", "e4");
             board.makeMove("d3", "e4");
+            long positionKey = board.positionKey();
             JsonWriter writer = new JsonWriter("./data/testWriterGeneralBoard.json");
             writer.open();
             writer.write(board);
@@ -66,6 +71,7 @@ class JsonWriterTest {
 
             JsonReader reader = new JsonReader("./data/testWriterGeneralBoard.json");
             board = reader.read();
+            assertEquals(positionKey, board.positionKey());
             assertEquals(Side.BLACK, board.getCurrentTurn());
             assertFalse(board.getGameOver());
             assertEquals(15, board.getNumAvailablePieces());
@@ -129,4 +135,26 @@ class JsonWriterTest {
             fail("Exception should not have been thrown");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testWriterSameLayoutAsJsonTree() {
+        try {
+            Board board = new Board();
+            board.makeMove("e2", "e4");
+            board.makeMove("d7", "d5");
+            board.makeMove("e4", "d5");
+            JsonWriter writer = new JsonWriter("./data/testWriterGeneralBoard.json");
+            writer.open();
+            writer.write(board);
+            writer.close();
+
+            String tree = board.toJson().toString(4);
+            String streamed = new String(Files.readAllBytes(Paths.get("./data/testWriterGeneralBoard.json")),
+                    StandardCharsets.UTF_8);
+            assertEquals(tree.length(), streamed.length());
+            assertTrue(new JSONObject(tree).similar(new JSONObject(streamed)));
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package persistence;
+
+import model.Board;
+import model.enums.Side;
+import model.enums.Type;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for a PGN reader object that streams chess games from file
+class PgnReaderTest {
+
+    @Test
+    void testReaderNonExistentFile() {
+        try {
+            new PgnReader("./data/noSuchFile.pgn");
+            fail("FileNotFoundException expected");
+        } catch (FileNotFoundException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReaderGames() {
+        try (PgnReader reader = new PgnReader("./data/testReaderGames.pgn")) {
+            PgnGame first = reader.next();
+            assertEquals("Alice \"The Rook\"", first.getTag("White"));
+            assertEquals("1-0", first.getResult());
+            Board board = first.getBoard();
+            assertEquals(7, board.getMoveList().getAllMoves().size());
+            assertEquals("Qxf7#", board.getMoveList().getAllMoves().get(6).getFormattedMove());
+            assertTrue(board.getGameOver());
+            assertEquals(Type.QUEEN, board.getPiece("f7").pieceType);
+
+            PgnGame endgame = reader.next();
+            assertEquals("1/2-1/2", endgame.getResult());
+            assertEquals(Side.WHITE, endgame.getBoard().getCurrentTurn());
+            assertEquals(Type.KING, endgame.getBoard().getPiece("e6").pieceType);
+            assertEquals(Type.KING, endgame.getBoard().getPiece("d4").pieceType);
+
+            assertFalse(reader.hasNext());
+            assertEquals(1, reader.getSkippedGames());
+        } catch (IOException e) {
+            fail("Couldn't read from file");
+        }
+    }
+
+    @Test
+    void testGameWithoutResultOrTags() {
+        PgnReader reader = new PgnReader(new StringReader("1.d4 d5 2.Nf3 Nf6 3.Nbd2"));
+        assertTrue(reader.hasNext());
+        PgnGame game = reader.next();
+        assertEquals("*", game.getResult());
+        assertTrue(game.getTags().isEmpty());
+        assertEquals(Type.KNIGHT, game.getBoard().getPiece("d2").pieceType);
+        assertFalse(reader.hasNext());
+        assertThrows(java.util.NoSuchElementException.class, reader::next);
+    }
+
+    @Test
+    void testIllegalMoveSkipsGame() {
+        PgnReader reader = new PgnReader(new StringReader("1. e4 e4 1-0\n\n1. Nf3 1-0\n\n1. Nbd2 *"));
+        assertEquals("Nf3", reader.next().getBoard().getMoveList().getAllMoves().get(0).getFormattedMove());
+        assertFalse(reader.hasNext());
+        assertEquals(2, reader.getSkippedGames());
+    }
+}
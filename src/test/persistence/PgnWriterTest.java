@@ -0,0 +1,88 @@
+package persistence;
+
+import model.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for a PGN writer object that writes chess games to file
+class PgnWriterTest {
+    private Board board;
+    private Map<String, String> tags;
+
+    @BeforeEach
+    void setup() {
+        board = new Board();
+        tags = new LinkedHashMap<>();
+        tags.put("White", "Alice");
+        tags.put("Annotator", "C:\\Users \"me\"");
+    }
+
+    @Test
+    void testWriterInvalidFile() {
+        try {
+            new PgnWriter("./data/my\0illegal:fileName.pgn").open();
+            fail("FileNotFoundException was expected");
+        } catch (FileNotFoundException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testWriteGame() {
+        board.makeMove("g1", "f3");
+        board.makeMove("d7", "d5");
+        board.makeMove("d2", "d3");
+        board.makeMove("e7", "e5");
+        board.makeMove("b1", "d2");
+        board.makeMove("e5", "e4");
+        board.makeMove("d3", "e4");
+
+        StringWriter out = new StringWriter();
+        PgnWriter writer = new PgnWriter(out);
+        writer.write(new PgnGame(tags, board));
+        writer.close();
+        String pgn = out.toString();
+
+        assertTrue(pgn.startsWith("[Event \"?\"]"));
+        assertTrue(pgn.contains("[White \"Alice\"]"));
+        assertTrue(pgn.contains("[Result \"*\"]"));
+        assertTrue(pgn.contains("[Annotator \"C:\\\\Users \\\"me\\\"\"]"));
+        assertTrue(pgn.contains("1. Nf3 d5 2. d3 e5 3. Nbd2 e4 4. dxe4 *"));
+    }
+
+    @Test
+    void testWrittenGamesReadBack() {
+        try {
+            String file = "./data/testWriterGames.pgn";
+            PgnWriter writer = new PgnWriter(file);
+            writer.open();
+            writer.write(new PgnGame(tags, board));
+            board.makeMove("f2", "f3");
+            board.makeMove("e7", "e5");
+            board.makeMove("g2", "g4");
+            board.makeMove("d8", "h4");
+            writer.write(new PgnGame(tags, board));
+            writer.close();
+
+            PgnReader reader = new PgnReader(file);
+            assertEquals(0, reader.next().getBoard().getMoveList().getAllMoves().size());
+            PgnGame mate = reader.next();
+            assertEquals("0-1", mate.getResult());
+            assertEquals(board.positionKey(), mate.getBoard().positionKey());
+            assertEquals("C:\\Users \"me\"", mate.getTag("Annotator"));
+            assertFalse(reader.hasNext());
+            reader.close();
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package persistence;
+
+import model.Board;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for an incremental save made of a snapshot and a journal of the moves since
+class SaveJournalTest {
+    private static final String[][] KNIGHT_MOVES = {{"g1", "f3"}, {"g8", "f6"}, {"f3", "g1"}, {"f6", "g8"}};
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSaveAppendsOnlyNewMoves() {
+        Path snapshot = dir.resolve("board.json");
+        try {
+            SaveJournal journal = new SaveJournal(snapshot.toString());
+            Board board = new Board();
+            journal.save(board);
+            long snapshotSize = Files.size(snapshot);
+            board.makeMove("e2", "e4");
+            board.makeMove("d7", "d5");
+            journal.save(board);
+            board.makeMove("e4", "d5");
+            journal.save(board);
+            journal.close();
+
+            assertEquals(snapshotSize, Files.size(snapshot));
+            assertEquals(3, journal.getJournaledRecords());
+            Board loaded = new SaveJournal(snapshot.toString()).load();
+            assertEquals(board.positionKey(), loaded.positionKey());
+            assertEquals(3, loaded.getMoveList().getAllMoves().size());
+            assertEquals("exd5", loaded.getMoveList().getAllMoves().get(2).getFormattedMove());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testSaveAfterTakeBackAndDifferentMove() {
+        Path snapshot = dir.resolve("board.json");
+        try {
+            SaveJournal journal = new SaveJournal(snapshot.toString());
+            Board board = new Board();
+            journal.save(board);
+            board.makeMove("e2", "e4");
+            board.makeMove("e7", "e5");
+            journal.save(board);
+            board.unmakeMove();
+            board.makeMove("d7", "d5");
+            journal.save(board);
+            journal.sync();
+            journal.close();
+
+            Board loaded = new SaveJournal(snapshot.toString()).load();
+            assertEquals(board.positionKey(), loaded.positionKey());
+            assertEquals(2, loaded.getMoveList().getAllMoves().size());
+            assertEquals("d5", loaded.getMoveList().getAllMoves().get(1).getFormattedMove());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testSaveCompactsLongJournal() {
+        Path snapshot = dir.resolve("board.json");
+        try {
+            SaveJournal journal = new SaveJournal(snapshot.toString(), 1, 4);
+            Board board = new Board();
+            // the first save writes the snapshot, the next four are journaled and the sixth compacts again
+            for (int i = 0; i < 7; i++) {
+                board.makeMove(KNIGHT_MOVES[i % 4][0], KNIGHT_MOVES[i % 4][1]);
+                journal.save(board);
+            }
+            assertEquals(1, journal.getJournaledRecords());
+            journal.close();
+
+            assertEquals(6, new JsonReader(snapshot.toString()).read().getMoveList().getAllMoves().size());
+            Board loaded = new SaveJournal(snapshot.toString()).load();
+            assertEquals(board.positionKey(), loaded.positionKey());
+            assertEquals(7, loaded.getMoveList().getAllMoves().size());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testLoadDropsTornTailAndKeepsAppending() {
+        Path snapshot = dir.resolve("board.json");
+        try {
+            SaveJournal journal = new SaveJournal(snapshot.toString());
+            Board board = new Board();
+            journal.save(board);
+            board.makeMove("e2", "e4");
+            journal.save(board);
+            journal.close();
+            // half a record, as left by a crash in the middle of an append
+            Files.write(dir.resolve("board.json.journal"), new byte[] {7}, StandardOpenOption.APPEND);
+
+            journal = new SaveJournal(snapshot.toString());
+            Board loaded = journal.load();
+            assertEquals(1, loaded.getMoveList().getAllMoves().size());
+            loaded.makeMove("e7", "e5");
+            journal.save(loaded);
+            journal.close();
+
+            Board reloaded = new SaveJournal(snapshot.toString()).load();
+            assertEquals(loaded.positionKey(), reloaded.positionKey());
+            assertEquals(2, reloaded.getMoveList().getAllMoves().size());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testLoadIgnoresJournalOfOtherSnapshot() {
+        Path snapshot = dir.resolve("board.json");
+        try {
+            SaveJournal journal = new SaveJournal(snapshot.toString());
+            Board board = new Board();
+            journal.save(board);
+            board.makeMove("e2", "e4");
+            journal.save(board);
+            journal.close();
+            Board other = new Board();
+            other.makeMove("d2", "d4");
+            JsonWriter writer = new JsonWriter(snapshot.toString());
+            writer.open();
+            writer.write(other);
+            writer.close();
+
+            Board loaded = new SaveJournal(snapshot.toString()).load();
+            assertEquals(other.positionKey(), loaded.positionKey());
+            assertEquals(1, loaded.getMoveList().getAllMoves().size());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+}
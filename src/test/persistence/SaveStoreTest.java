@@ -0,0 +1,119 @@
+package persistence;
+
+import model.Board;
+import model.enums.Side;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for a store of many named saved games with an index of their summaries
+class SaveStoreTest {
+    @TempDir
+    Path dir;
+    private Board opening;
+    private Board mate;
+
+    @BeforeEach
+    void runBefore() {
+        opening = new Board();
+        opening.makeMove("e2", "e4");
+        mate = new Board();
+        mate.makeMove("f2", "f3");
+        mate.makeMove("e7", "e5");
+        mate.makeMove("g2", "g4");
+        mate.makeMove("d8", "h4");
+    }
+
+    @Test
+    void testSaveListAndLoad() {
+        try {
+            SaveStore store = new SaveStore(dir.toString());
+            store.open();
+            store.save("opening", opening);
+            store.save("mate", mate);
+
+            List<SaveSummary> saves = store.list();
+            assertEquals(2, saves.size());
+            assertEquals("mate", saves.get(0).getName());
+            assertTrue(saves.get(0).getGameOver());
+            assertEquals(4, saves.get(0).getMoveCount());
+            assertEquals(Side.BLACK, store.getSummary("opening").getCurrentTurn());
+            assertEquals(opening.positionKey(), store.getSummary("opening").getPositionKey());
+            assertEquals(1, store.list(summary -> !summary.getGameOver()).size());
+
+            assertEquals(mate.positionKey(), store.load("mate").positionKey());
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testReopenReadsOnlyIndex() {
+        try {
+            SaveStore store = new SaveStore(dir.toString());
+            store.open();
+            store.save("opening", opening);
+            long created = store.getSummary("opening").getCreatedMillis();
+            opening.makeMove("e7", "e5");
+            store.save("opening", opening);
+            Files.delete(dir.resolve("opening.tcg"));
+
+            SaveStore reopened = new SaveStore(dir.toString());
+            reopened.open();
+            SaveSummary summary = reopened.getSummary("opening");
+            assertEquals(2, summary.getMoveCount());
+            assertEquals(created, summary.getCreatedMillis());
+            assertTrue(summary.getUpdatedMillis() >= created);
+            try {
+                reopened.load("opening");
+                fail("IOException expected");
+            } catch (IOException e) {
+                // pass: the listing came from the index alone
+            }
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testRebuildMissingIndexAndDelete() {
+        try {
+            SaveStore store = new SaveStore(dir.toString());
+            store.open();
+            store.save("opening", opening);
+            store.save("mate", mate);
+            Files.delete(dir.resolve(SaveStore.INDEX_FILE));
+
+            SaveStore reopened = new SaveStore(dir.toString());
+            reopened.open();
+            assertEquals(2, reopened.list().size());
+            assertTrue(reopened.delete("mate"));
+            assertFalse(reopened.delete("mate"));
+            assertEquals(1, reopened.list().size());
+            assertFalse(Files.exists(dir.resolve("mate.tcg")));
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+
+    @Test
+    void testInvalidName() {
+        try {
+            SaveStore store = new SaveStore(dir.toString());
+            store.open();
+            store.save("../escape", opening);
+            fail("IllegalArgumentException expected");
+        } catch (IllegalArgumentException e) {
+            // pass
+        } catch (IOException e) {
+            fail("Exception should not have been thrown");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package server;
+
+import model.enums.Side;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for the headless server hosting many game sessions
+class GameServerTest {
+    private GameServer server;
+
+    @BeforeEach
+    void runBefore() {
+        server = new GameServer(2);
+    }
+
+    @AfterEach
+    void runAfter() {
+        server.shutdown();
+    }
+
+    // EFFECTS: plays the move from fromPos to toPos in the session with the given id and returns the result
+    private MoveResult move(long id, String fromPos, String toPos) {
+        return server.submitMove(id, fromPos, toPos).join();
+    }
+
+    @Test
+    void testMoveValidated() {
+        long id = server.createSession();
+        assertEquals(MoveStatus.NO_PIECE, move(id, "e4", "e5").getStatus());
+        assertEquals(MoveStatus.NOT_YOUR_TURN, move(id, "e7", "e5").getStatus());
+        assertEquals(MoveStatus.ILLEGAL_MOVE, move(id, "e2", "e5").getStatus());
+        assertEquals(MoveStatus.ILLEGAL_MOVE, move(id, "e2", "z9").getStatus());
+        MoveResult result = move(id, "e2", "e4");
+        assertTrue(result.isPlayed());
+        assertEquals(Side.BLACK, result.getCurrentTurn());
+        assertEquals(1, result.getMoveCount());
+        assertEquals(MoveStatus.NO_SUCH_SESSION, move(id + 1, "e7", "e5").getStatus());
+    }
+
+    @Test
+    void testGameOver() {
+        long id = server.createSession();
+        move(id, "f2", "f3");
+        move(id, "e7", "e5");
+        move(id, "g2", "g4");
+        MoveResult mate = move(id, "d8", "h4");
+        assertTrue(mate.isPlayed());
+        assertTrue(mate.getGameOver());
+        assertEquals(MoveStatus.GAME_OVER, move(id, "a2", "a3").getStatus());
+        assertTrue(server.submit(id, GameSession::getLegalMoves).join().isEmpty());
+    }
+
+    @Test
+    void testSessionsIsolated() {
+        long first = server.createSession();
+        long second = server.createSession();
+        move(first, "e2", "e4");
+        assertEquals(0, server.submit(second, GameSession::getMoveCount).join());
+        assertEquals(Side.WHITE, server.submit(second, GameSession::getCurrentTurn).join());
+        assertFalse(server.submit(second, GameSession::getEventLog).join().iterator().hasNext());
+        assertTrue(server.submit(first, GameSession::getEventLog).join().iterator().hasNext());
+        assertEquals(1, server.getSnapshot(first).getMoveCount());
+        assertEquals(Side.BLACK, server.getSnapshot(first).getCurrentTurn());
+        assertTrue(server.closeSession(first));
+        assertFalse(server.closeSession(first));
+        assertNull(server.getSnapshot(first));
+        assertEquals(1, server.getSessionCount());
+        try {
+            server.submit(first, GameSession::getMoveCount).join();
+            fail("Session should be closed");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    @Test
+    void testMovesOfOneGameKeepOrder() {
+        long id = server.createSession();
+        String[][] moves = {{"e2", "e4"}, {"e7", "e5"}, {"g1", "f3"}, {"b8", "c6"}, {"f1", "b5"}, {"a7", "a6"}};
+        List<CompletableFuture<MoveResult>> results = new ArrayList<>();
+        for (String[] move : moves) {
+            results.add(server.submitMove(id, move[0], move[1]));
+        }
+        for (int i = 0; i < moves.length; i++) {
+            assertTrue(results.get(i).join().isPlayed());
+            assertEquals(i + 1, results.get(i).join().getMoveCount());
+        }
+    }
+
+    @Test
+    void testConcurrentSessions() {
+        List<Long> ids = new ArrayList<>();
+        List<CompletableFuture<MoveResult>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            long id = server.createSession();
+            ids.add(id);
+            results.add(server.submitMove(id, "g1", "f3"));
+        }
+        for (CompletableFuture<MoveResult> result : results) {
+            assertTrue(result.join().isPlayed());
+        }
+        for (long id : ids) {
+            assertEquals(1, server.submit(id, GameSession::getMoveCount).join());
+            assertTrue(server.submit(id, GameSession::getLegalMoves).join().containsKey("e7"));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Test class for the single-threaded mailbox that serializes the requests of a game
+class MailboxTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    void runBefore() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void runAfter() {
+        executor.shutdown();
+    }
+
+    @Test
+    void testRunsInPostedOrder() {
+        Mailbox mailbox = new Mailbox(executor);
+        List<Integer> ran = new ArrayList<>();
+        for (int i = 0; i < 10 * Mailbox.BATCH; i++) {
+            int task = i;
+            mailbox.execute(() -> ran.add(task));
+        }
+        CompletableFuture.runAsync(() -> { }, mailbox).join();
+        assertEquals(10 * Mailbox.BATCH, ran.size());
+        for (int i = 0; i < ran.size(); i++) {
+            assertEquals(i, ran.get(i));
+        }
+    }
+
+    @Test
+    void testOneTaskAtATime() {
+        Mailbox mailbox = new Mailbox(executor);
+        AtomicBoolean running = new AtomicBoolean();
+        AtomicInteger overlaps = new AtomicInteger();
+        int[] count = new int[1];
+        List<CompletableFuture<Void>> posters = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            posters.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    mailbox.execute(() -> {
+                        if (!running.compareAndSet(false, true)) {
+                            overlaps.incrementAndGet();
+                        }
+                        count[0]++;
+                        running.set(false);
+                    });
+                }
+            }));
+        }
+        posters.forEach(CompletableFuture::join);
+        CompletableFuture.runAsync(() -> { }, mailbox).join();
+        assertEquals(0, overlaps.get());
+        assertEquals(4000, count[0]);
+    }
+
+    @Test
+    void testCarriesOnAfterFailure() {
+        AtomicInteger reported = new AtomicInteger();
+        ExecutorService reporting = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setUncaughtExceptionHandler((t, e) -> reported.incrementAndGet());
+            return thread;
+        });
+        Mailbox mailbox = new Mailbox(reporting);
+        mailbox.execute(() -> {
+            throw new IllegalStateException();
+        });
+        AtomicInteger after = new AtomicInteger();
+        CompletableFuture.runAsync(after::incrementAndGet, mailbox).join();
+        reporting.shutdown();
+        assertEquals(1, reported.get());
+        assertEquals(1, after.get());
+    }
+
+    @Test
+    void testCarriesOnAfterError() {
+        AtomicInteger reported = new AtomicInteger();
+        ExecutorService reporting = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setUncaughtExceptionHandler((t, e) -> reported.incrementAndGet());
+            return thread;
+        });
+        Mailbox mailbox = new Mailbox(reporting);
+        mailbox.execute(() -> {
+            throw new StackOverflowError();
+        });
+        AtomicInteger after = new AtomicInteger();
+        CompletableFuture.runAsync(after::incrementAndGet, mailbox).orTimeout(5, TimeUnit.SECONDS).join();
+        reporting.shutdown();
+        assertEquals(1, reported.get());
+        assertEquals(1, after.get());
+    }
+
+    @Test
+    void testCarriesOnAfterRejection() {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        Mailbox mailbox = new Mailbox(runnable -> {
+            if (reject.getAndSet(false)) {
+                throw new RejectedExecutionException();
+            }
+            executor.execute(runnable);
+        });
+        AtomicInteger ran = new AtomicInteger();
+        try {
+            mailbox.execute(ran::incrementAndGet);
+            fail("Rejection should be reported to the poster");
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+        CompletableFuture.runAsync(ran::incrementAndGet, mailbox).orTimeout(5, TimeUnit.SECONDS).join();
+        assertEquals(1, ran.get());
+    }
+}